@@ -0,0 +1,668 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import org.springframework.hateoas.TemplateVariable.VariableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A URI template parsed into literal and expression parts once, so that it can be expanded directly into a
+ * {@link StringBuilder}. Supports all operators and modifiers defined by RFC 6570 (level 4). Values for the variable
+ * types that could be expressed before RFC 6570 was fully supported are encoded the way Spring's
+ * {@link org.springframework.web.util.UriComponents} encode the corresponding URI component, i.e. path variables keep
+ * sub-delimiters, {@code :}, {@code @} and {@code /}, request parameters keep e.g. {@code +}, {@code /} and {@code ?}
+ * but encode {@code &} and {@code =}. Only the operators added for RFC 6570 use the stricter encoding of the spec.
+ *
+ * @see https://tools.ietf.org/html/rfc6570
+ * @since 1.0
+ */
+final class CompiledUriTemplate {
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+	private static final String RESERVED = ":/?#[]@!$&'()*+,;=";
+	private static final String PATH = "!$&'()*+,;=:@/";
+	private static final String QUERY_PARAM = "!$'()*+,;:@/?";
+	private static final String FRAGMENT = "!$&'()*+,;=:@/?";
+
+	private final List<Part> parts;
+
+	private CompiledUriTemplate(List<Part> parts) {
+		this.parts = parts;
+	}
+
+	/**
+	 * Compiles the given base URI and the {@link TemplateVariable}s to be appended to it.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param appended must not be {@literal null}.
+	 * @return
+	 */
+	static CompiledUriTemplate of(String baseUri, List<TemplateVariable> appended) {
+
+		Assert.notNull(baseUri, "Base URI must not be null!");
+
+		return of(parse(baseUri), appended);
+	}
+
+	/**
+	 * Compiles the given, already parsed base URI and the {@link TemplateVariable}s to be appended to it.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param appended must not be {@literal null}.
+	 * @return
+	 */
+	static CompiledUriTemplate of(List<Part> baseUri, List<TemplateVariable> appended) {
+
+		Assert.notNull(baseUri, "Base URI must not be null!");
+		Assert.notNull(appended, "Variables must not be null!");
+
+		List<Part> parts = new ArrayList<>(baseUri);
+		Expression previous = null;
+
+		for (TemplateVariable variable : appended) {
+
+			VariableSpec spec = new VariableSpec(variable.getName(),
+					variable.getType().equals(VariableType.COMPOSITE_PARAM), -1, variable.isRequired());
+			Operator operator = Operator.from(variable.getType());
+
+			// Multiple values for a fragment are rendered into a single one
+			if (previous != null && operator == Operator.FRAGMENT && previous.getOperator() == Operator.FRAGMENT) {
+				previous.specs.add(spec);
+				continue;
+			}
+
+			previous = new Expression(operator, new ArrayList<>(Collections.singletonList(spec)), -1, -1);
+			parts.add(previous);
+		}
+
+		return new CompiledUriTemplate(parts);
+	}
+
+	/**
+	 * Returns whether the given source contains at least one template expression.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	static boolean containsExpression(String source) {
+
+		if (source.indexOf('{') == -1) {
+			return false;
+		}
+
+		return parse(source).stream().anyMatch(Expression.class::isInstance);
+	}
+
+	/**
+	 * Parses the given template into {@link Literal}s and {@link Expression}s.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @return
+	 */
+	static List<Part> parse(String template) {
+
+		List<Part> parts = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		int index = 0;
+
+		while (index < template.length()) {
+
+			int start = template.indexOf('{', index);
+			int end = start == -1 ? -1 : findClosingBrace(template, start);
+			Expression expression = end == -1 ? null : Expression.parse(template, start, end);
+
+			if (expression == null) {
+
+				int next = start == -1 ? template.length() : start + 1;
+
+				literal.append(template, index, next);
+				index = next;
+
+				continue;
+			}
+
+			literal.append(template, index, start);
+
+			if (literal.length() != 0) {
+				parts.add(new Literal(literal.toString()));
+				literal.setLength(0);
+			}
+
+			parts.add(expression);
+			index = end + 1;
+		}
+
+		if (literal.length() != 0) {
+			parts.add(new Literal(literal.toString()));
+		}
+
+		return parts;
+	}
+
+	/**
+	 * Returns the index of the brace closing the one at the given index, considering nested braces like in Spring MVC's
+	 * {@code {id:\d{3}}}.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param start the index of the opening brace.
+	 * @return the index of the closing brace or -1 if not found.
+	 */
+	private static int findClosingBrace(String template, int start) {
+
+		int depth = 0;
+
+		for (int i = start; i < template.length(); i++) {
+
+			char c = template.charAt(i);
+
+			if (c == '{') {
+				depth++;
+			} else if (c == '}' && --depth == 0) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Expands the template using the given values in the order of the variables.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return
+	 */
+	String expand(Object... values) {
+
+		Iterator<Object> iterator = Arrays.asList(values).iterator();
+
+		return expand(name -> iterator.hasNext() ? iterator.next() : null);
+	}
+
+	/**
+	 * Expands the template using the given values looked up by variable name.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return
+	 */
+	String expand(Map<String, ?> values) {
+		return expand(values::get);
+	}
+
+	private String expand(Values values) {
+
+		ExpansionContext context = new ExpansionContext(values);
+
+		for (Part part : parts) {
+			part.expandInto(context);
+		}
+
+		return context.builder.toString();
+	}
+
+	/**
+	 * Percent-encodes the given source keeping all unreserved characters, the given allowed ones and, if requested,
+	 * already percent-encoded triplets.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param allowed the characters to keep in addition to the unreserved ones, must not be {@literal null}.
+	 * @param keepEncoded whether to keep already percent-encoded triplets.
+	 * @param builder must not be {@literal null}.
+	 */
+	private static void encode(String source, String allowed, boolean keepEncoded, StringBuilder builder) {
+
+		for (int i = 0; i < source.length(); i++) {
+
+			char c = source.charAt(i);
+
+			if (isUnreserved(c) || allowed.indexOf(c) != -1) {
+				builder.append(c);
+			} else if (keepEncoded && c == '%' && isHex(source, i + 1) && isHex(source, i + 2)) {
+				builder.append(source, i, i + 3);
+				i += 2;
+			} else {
+
+				int end = Character.isHighSurrogate(c) && i + 1 < source.length() ? i + 2 : i + 1;
+
+				for (byte b : source.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+					builder.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+				}
+
+				i = end - 1;
+			}
+		}
+	}
+
+	private static boolean isUnreserved(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '.' || c == '_'
+				|| c == '~';
+	}
+
+	private static boolean isHex(String source, int index) {
+		return index < source.length() && Character.digit(source.charAt(index), 16) != -1;
+	}
+
+	/**
+	 * Strategy to look up the value for a variable.
+	 */
+	private interface Values {
+		Object get(String name);
+	}
+
+	/**
+	 * The state of a single expansion.
+	 */
+	@RequiredArgsConstructor
+	static class ExpansionContext {
+
+		private final Values values;
+		private final StringBuilder builder = new StringBuilder();
+		private boolean query;
+	}
+
+	/**
+	 * A part of a compiled template.
+	 */
+	interface Part {
+		void expandInto(ExpansionContext context);
+	}
+
+	/**
+	 * A literal part of the template, encoded at compile time.
+	 */
+	static class Literal implements Part {
+
+		private final String value;
+		private final boolean containsQuery;
+
+		Literal(String source) {
+
+			StringBuilder builder = new StringBuilder(source.length());
+			encode(source, RESERVED, true, builder);
+
+			this.value = builder.toString();
+			this.containsQuery = source.indexOf('?') != -1;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#expandInto(org.springframework.hateoas.CompiledUriTemplate.ExpansionContext)
+		 */
+		@Override
+		public void expandInto(ExpansionContext context) {
+
+			context.builder.append(value);
+			context.query |= containsQuery;
+		}
+	}
+
+	/**
+	 * A template expression consisting of an {@link Operator} and one or more {@link VariableSpec}s.
+	 */
+	@Getter
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	static class Expression implements Part {
+
+		private final Operator operator;
+		private final List<VariableSpec> specs;
+		private final int start, end;
+
+		/**
+		 * Parses the expression between the given indexes of the template. Returns {@literal null} if the braces do not
+		 * contain a valid expression.
+		 *
+		 * @param template must not be {@literal null}.
+		 * @param start the index of the opening brace.
+		 * @param end the index of the closing brace.
+		 * @return
+		 */
+		static Expression parse(String template, int start, int end) {
+
+			if (end - start < 2) {
+				return null;
+			}
+
+			char first = template.charAt(start + 1);
+
+			// Composite parameters as rendered by TemplateVariables, e.g. {*foo}
+			if (first == '*') {
+
+				VariableSpec spec = VariableSpec.parse(template.substring(start + 2, end).concat("*"),
+						Operator.QUERY_CONTINUATION);
+
+				return spec == null ? null
+						: new Expression(Operator.QUERY_CONTINUATION, Collections.singletonList(spec), start, end);
+			}
+
+			Operator operator = Operator.from(first);
+			int index = operator == Operator.SIMPLE ? start + 1 : start + 2;
+			List<VariableSpec> specs = new ArrayList<>();
+
+			for (String candidate : template.substring(index, end).split(",", -1)) {
+
+				VariableSpec spec = VariableSpec.parse(candidate, operator);
+
+				if (spec == null) {
+					return null;
+				}
+
+				specs.add(spec);
+			}
+
+			return new Expression(operator, specs, start, end);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#expandInto(org.springframework.hateoas.CompiledUriTemplate.ExpansionContext)
+		 */
+		@Override
+		public void expandInto(ExpansionContext context) {
+
+			StringBuilder builder = context.builder;
+			String allowed = operator.getAllowed(context.query);
+			boolean first = true;
+
+			for (VariableSpec spec : specs) {
+
+				Object value = unwrap(context.values.get(spec.getName()));
+
+				if (isUndefined(value)) {
+
+					if (spec.isRequired()) {
+						throw new IllegalArgumentException(
+								String.format("Template variable %s is required but no value was given!", spec.getName()));
+					}
+
+					continue;
+				}
+
+				if (first) {
+					builder.append(operator.isQuery() ? context.query ? "&" : "?" : operator.first);
+					first = false;
+				} else {
+					builder.append(operator.separator);
+				}
+
+				if (value instanceof Map) {
+					appendMap(spec, (Map<?, ?>) value, allowed, builder);
+				} else if (value instanceof Iterable) {
+					appendIterable(spec, (Iterable<?>) value, allowed, builder);
+				} else {
+					appendString(spec, value.toString(), allowed, builder);
+				}
+			}
+
+			context.query |= operator.isQuery() && !first;
+		}
+
+		private void appendString(VariableSpec spec, String value, String allowed, StringBuilder builder) {
+
+			if (spec.getPrefix() != -1 && value.codePointCount(0, value.length()) > spec.getPrefix()) {
+				value = value.substring(0, value.offsetByCodePoints(0, spec.getPrefix()));
+			}
+
+			if (operator.named) {
+
+				builder.append(spec.getName());
+
+				if (value.isEmpty()) {
+					builder.append(operator.ifEmpty);
+					return;
+				}
+
+				builder.append('=');
+			}
+
+			encode(value, allowed, operator.keepEncoded, builder);
+		}
+
+		private void appendIterable(VariableSpec spec, Iterable<?> values, String allowed, StringBuilder builder) {
+
+			if (operator.named && !spec.isExplode()) {
+				builder.append(spec.getName()).append('=');
+			}
+
+			boolean first = true;
+
+			for (Object value : values) {
+
+				if (!first) {
+					builder.append(spec.isExplode() ? operator.separator : ",");
+				}
+
+				String string = String.valueOf(value);
+
+				if (operator.named && spec.isExplode()) {
+					appendString(spec, string, allowed, builder);
+				} else {
+					encode(string, allowed, operator.keepEncoded, builder);
+				}
+
+				first = false;
+			}
+		}
+
+		private void appendMap(VariableSpec spec, Map<?, ?> values, String allowed, StringBuilder builder) {
+
+			if (operator.named && !spec.isExplode()) {
+				builder.append(spec.getName()).append('=');
+			}
+
+			boolean first = true;
+
+			for (Entry<?, ?> entry : values.entrySet()) {
+
+				if (!first) {
+					builder.append(spec.isExplode() ? operator.separator : ",");
+				}
+
+				String value = String.valueOf(entry.getValue());
+
+				encode(String.valueOf(entry.getKey()), allowed, operator.keepEncoded, builder);
+
+				if (spec.isExplode()) {
+					builder.append(operator.named && value.isEmpty() ? operator.ifEmpty : "=");
+				} else {
+					builder.append(',');
+				}
+
+				encode(value, allowed, operator.keepEncoded, builder);
+				first = false;
+			}
+		}
+
+		private static Object unwrap(Object value) {
+
+			if (value instanceof Optional) {
+				return ((Optional<?>) value).orElse(null);
+			}
+
+			return value != null && value.getClass().isArray() ? Arrays.asList(ObjectUtils.toObjectArray(value)) : value;
+		}
+
+		private static boolean isUndefined(Object value) {
+
+			if (value == null) {
+				return true;
+			}
+
+			if (value instanceof Map) {
+				return ((Map<?, ?>) value).isEmpty();
+			}
+
+			return value instanceof Iterable && !((Iterable<?>) value).iterator().hasNext();
+		}
+	}
+
+	/**
+	 * A single variable within an {@link Expression}.
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	static class VariableSpec {
+
+		private final String name;
+		private final boolean explode;
+		private final int prefix;
+		private final boolean required;
+
+		/**
+		 * Parses the given variable specification. Returns {@literal null} if it's not valid.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @param operator must not be {@literal null}.
+		 * @return
+		 */
+		static VariableSpec parse(String source, Operator operator) {
+
+			boolean explode = source.endsWith("*");
+			String name = explode ? source.substring(0, source.length() - 1) : source;
+			int prefix = -1;
+			int colon = name.indexOf(':');
+
+			if (colon != -1) {
+
+				String length = name.substring(colon + 1);
+
+				if (explode || length.isEmpty() || length.length() > 4 || !length.chars().allMatch(Character::isDigit)) {
+					return null;
+				}
+
+				prefix = Integer.parseInt(length);
+				name = name.substring(0, colon);
+			}
+
+			if (name.isEmpty() || !name.chars().allMatch(VariableSpec::isVariableCharacter)) {
+				return null;
+			}
+
+			return new VariableSpec(name, explode, prefix, operator.isRequired());
+		}
+
+		private static boolean isVariableCharacter(int c) {
+			return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '.' || c == '%';
+		}
+	}
+
+	/**
+	 * The expression operators defined in RFC 6570, section 3.2.1, along with the characters their values are allowed to
+	 * contain unencoded.
+	 */
+	@RequiredArgsConstructor
+	enum Operator {
+
+		SIMPLE(VariableType.PATH_VARIABLE, "", ",", false, "", CompiledUriTemplate.PATH, false), //
+		RESERVED(VariableType.RESERVED_STRING, "", ",", false, "", CompiledUriTemplate.RESERVED, true), //
+		FRAGMENT(VariableType.FRAGMENT, "#", ",", false, "", CompiledUriTemplate.FRAGMENT, false), //
+		LABEL(VariableType.LABEL, ".", ".", false, "", "", false), //
+		PATH_SEGMENT(VariableType.SEGMENT, "/", "/", false, "", CompiledUriTemplate.PATH, false), //
+		PATH_PARAMETER(VariableType.PATH_STYLE_PARAMETER, ";", ";", true, "", "", false), //
+		QUERY(VariableType.REQUEST_PARAM, "?", "&", true, "=", QUERY_PARAM, false), //
+		QUERY_CONTINUATION(VariableType.REQUEST_PARAM_CONTINUED, "&", "&", true, "=", QUERY_PARAM, false);
+
+		private final @Getter VariableType type;
+		private final String first, separator;
+		private final boolean named;
+		private final String ifEmpty;
+		private final String allowed;
+		private final boolean keepEncoded;
+
+		/**
+		 * Returns the characters to keep unencoded in values of the operator. Simple variables within the query of the
+		 * base URI are encoded like request parameters.
+		 *
+		 * @param query whether the expansion is within the query already.
+		 * @return
+		 */
+		String getAllowed(boolean query) {
+			return this == SIMPLE && query ? QUERY_PARAM : allowed;
+		}
+
+		/**
+		 * Returns whether values for variables of the operator have to be given.
+		 *
+		 * @return
+		 */
+		boolean isRequired() {
+			return !type.isOptional();
+		}
+
+		/**
+		 * Returns whether the operator renders query parameters. Both query operators start the query if none was
+		 * rendered before and continue it otherwise.
+		 *
+		 * @return
+		 */
+		boolean isQuery() {
+			return this == QUERY || this == QUERY_CONTINUATION;
+		}
+
+		/**
+		 * Returns the {@link Operator} for the given character or {@link #SIMPLE} in case it's not an operator.
+		 *
+		 * @param character
+		 * @return
+		 */
+		static Operator from(char character) {
+
+			String key = String.valueOf(character);
+
+			for (Operator operator : values()) {
+				if (operator.type.toString().equals(key)) {
+					return operator;
+				}
+			}
+
+			return SIMPLE;
+		}
+
+		/**
+		 * Returns the {@link Operator} to expand variables of the given {@link VariableType}.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		static Operator from(VariableType type) {
+
+			if (type == VariableType.COMPOSITE_PARAM) {
+				return QUERY_CONTINUATION;
+			}
+
+			for (Operator operator : values()) {
+				if (operator.type == type) {
+					return operator;
+				}
+			}
+
+			throw new IllegalArgumentException("Unsupported variable type " + type + "!");
+		}
+	}
+}
@@ -15,6 +15,9 @@
  */
 package org.springframework.hateoas;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.plugin.core.Plugin;
 
 /**
@@ -101,4 +104,27 @@ public interface EntityLinks extends Plugin<Class<?>> {
 	 * @throws IllegalArgumentException in case the type of the given entity is unknown the entity links infrastructure.
 	 */
 	Link linkToSingleResource(Identifiable<?> entity);
+
+	/**
+	 * Creates {@link Link}s pointing to the single resources backing the given entity type and ids. The relation type of
+	 * the links will be determined by the implementation class and should be defaulted to {@link Link#REL_SELF}.
+	 * Implementations are encouraged to resolve the parts of the links shared by all ids only once.
+	 * 
+	 * @param type the entity type to point to, must not be {@literal null}.
+	 * @param ids the identifiers of the entities of the given type, must not be {@literal null}.
+	 * @return the {@link Link}s pointing to the resources exposed for the entities with the given type and ids in the
+	 *         order of the given ids. Will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given type is unknown the entity links infrastructure.
+	 * @since 1.0
+	 */
+	default List<Link> linkToSingleResources(Class<?> type, Iterable<?> ids) {
+
+		List<Link> links = new ArrayList<>();
+
+		for (Object id : ids) {
+			links.add(linkToSingleResource(type, id));
+		}
+
+		return links;
+	}
 }
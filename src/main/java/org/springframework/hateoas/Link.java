@@ -94,7 +94,7 @@ public class Link implements Serializable {
 	 * @param rel must not be {@literal null} or empty.
 	 */
 	public Link(String href, String rel) {
-		this(new UriTemplate(href), rel);
+		this(UriTemplate.of(href), rel);
 	}
 
 	/**
@@ -257,7 +257,7 @@ public class Link implements Serializable {
 	private UriTemplate getUriTemplate() {
 
 		if (template == null) {
-			this.template = new UriTemplate(href);
+			this.template = UriTemplate.of(href);
 		}
 
 		return template;
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A collection resource backed by a one-shot {@link Stream} or {@link Iterator}. Unlike {@link Resources}, the content
+ * is not held in memory but pulled element by element while being rendered, so that large collections can be exported
+ * without materializing them. Thus the content can only be iterated once and its size is unknown. The instance has to
+ * be {@link #close() closed} to release the underlying {@link Stream}, which happens automatically once the content
+ * has been fully consumed or has been rendered by the HAL and Collection+JSON serializers.
+ *
+ * @since 1.0
+ */
+public class StreamingResources<T> extends ResourceSupport implements Iterable<T>, AutoCloseable {
+
+	private final Iterator<T> source;
+	private final Runnable onClose;
+
+	private boolean consumed, closed, headAvailable;
+	private T head;
+
+	private StreamingResources(Iterator<T> source, Runnable onClose, Link... links) {
+
+		this.source = source;
+		this.onClose = onClose;
+
+		this.add(Arrays.asList(links));
+	}
+
+	/**
+	 * Creates a new {@link StreamingResources} instance for the given {@link Stream} and {@link Link}s. The
+	 * {@link Stream} is closed once the {@link StreamingResources} are closed.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param links the links to be added to the {@link StreamingResources}.
+	 * @return
+	 */
+	public static <T> StreamingResources<T> of(Stream<T> content, Link... links) {
+
+		Assert.notNull(content, "Content must not be null!");
+
+		return new StreamingResources<>(content.iterator(), content::close, links);
+	}
+
+	/**
+	 * Creates a new {@link StreamingResources} instance for the given {@link Iterator} and {@link Link}s.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param links the links to be added to the {@link StreamingResources}.
+	 * @return
+	 */
+	public static <T> StreamingResources<T> of(Iterator<T> content, Link... links) {
+
+		Assert.notNull(content, "Content must not be null!");
+
+		return new StreamingResources<>(content, () -> {}, links);
+	}
+
+	/**
+	 * Returns the one-shot content. Iterating over it consumes the {@link StreamingResources}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	@JsonProperty("content")
+	public Iterable<T> getContent() {
+		return new Content();
+	}
+
+	/**
+	 * Returns the next element of the content without consuming it, e.g. to inspect its type or check for emptiness.
+	 *
+	 * @return the next element to be returned or {@link Optional#empty()} if there is none.
+	 */
+	public Optional<T> peek() {
+		return hasHead() ? Optional.ofNullable(head) : Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<T> iterator() {
+
+		Assert.state(!consumed, "Streaming content can only be iterated once!");
+		Assert.state(!closed, "Streaming content has already been closed!");
+
+		consumed = true;
+
+		return new Iterator<T>() {
+
+			@Override
+			public boolean hasNext() {
+
+				if (!closed && (headAvailable || source.hasNext())) {
+					return true;
+				}
+
+				close();
+				return false;
+			}
+
+			@Override
+			public T next() {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				if (!headAvailable) {
+					return source.next();
+				}
+
+				T result = head;
+
+				head = null;
+				headAvailable = false;
+
+				return result;
+			}
+		};
+	}
+
+	/**
+	 * Releases the underlying source of the content. Subsequent invocations don't have any effect.
+	 *
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		head = null;
+		headAvailable = false;
+
+		onClose.run();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.ResourceSupport#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("StreamingResources { links: %s }", getLinks());
+	}
+
+	private boolean hasHead() {
+
+		if (!closed && !consumed && !headAvailable && source.hasNext()) {
+
+			head = source.next();
+			headAvailable = true;
+		}
+
+		return headAvailable;
+	}
+
+	/**
+	 * {@link Iterable} view on the content so that it's rendered as plain collection by default.
+	 */
+	private class Content implements Iterable<T> {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Iterable#iterator()
+		 */
+		@Override
+		public Iterator<T> iterator() {
+			return StreamingResources.this.iterator();
+		}
+	}
+}
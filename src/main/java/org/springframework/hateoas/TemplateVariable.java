@@ -152,7 +152,28 @@ public final class TemplateVariable implements Serializable {
 		REQUEST_PARAM_CONTINUED("&", true), //
 		SEGMENT("/", true), //
 		FRAGMENT("#", true), //
-		COMPOSITE_PARAM("*", true);
+		COMPOSITE_PARAM("*", true), //
+
+		/**
+		 * Reserved string expansion ({@code {+var}}) as defined in RFC 6570, keeping reserved characters unencoded.
+		 * 
+		 * @since 1.0
+		 */
+		RESERVED_STRING("+", false), //
+
+		/**
+		 * Label expansion with dot-prefix ({@code {.var}}) as defined in RFC 6570.
+		 * 
+		 * @since 1.0
+		 */
+		LABEL(".", true), //
+
+		/**
+		 * Path-style parameter expansion ({@code {;var}}) as defined in RFC 6570.
+		 * 
+		 * @since 1.0
+		 */
+		PATH_STYLE_PARAMETER(";", true);
 
 		private static final List<VariableType> COMBINABLE_TYPES = Arrays.asList(REQUEST_PARAM, REQUEST_PARAM_CONTINUED);
 
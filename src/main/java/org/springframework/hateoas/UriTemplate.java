@@ -18,18 +18,18 @@ package org.springframework.hateoas;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.springframework.hateoas.CompiledUriTemplate.Expression;
+import org.springframework.hateoas.CompiledUriTemplate.Part;
+import org.springframework.hateoas.CompiledUriTemplate.VariableSpec;
 import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -44,12 +44,18 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
-	private static final Pattern VARIABLE_REGEX = Pattern.compile("\\{([\\?\\&#/]?)([\\w\\,*]+)\\}");
 	private static final long serialVersionUID = -1007874653930162262L;
+	private static final int CACHE_LIMIT = 1024;
+	private static final Map<String, UriTemplate> CACHE = new ConcurrentReferenceHashMap<>();
 
 	private final TemplateVariables variables;
 	private String baseUri;
 
+	private transient CompiledUriTemplate compiled;
+	private transient TemplateVariables optionalVariables;
+	private transient List<String> variableNames;
+	private transient String string;
+
 	/**
 	 * Creates a new {@link UriTemplate} using the given template string.
 	 * 
@@ -59,29 +65,28 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		Assert.hasText(template, "Template must not be null or empty!");
 
-		Matcher matcher = VARIABLE_REGEX.matcher(template);
+		List<Part> parts = CompiledUriTemplate.parse(template);
 		int baseUriEndIndex = template.length();
 		List<TemplateVariable> variables = new ArrayList<>();
 
-		while (matcher.find()) {
+		for (Part part : parts) {
 
-			int start = matcher.start(0);
+			if (!(part instanceof Expression)) {
+				continue;
+			}
 
-			VariableType type = VariableType.from(matcher.group(1));
-			String[] names = matcher.group(2).split(",");
+			Expression expression = (Expression) part;
 
-			for (String name : names) {
-				
-				TemplateVariable variable;
+			for (VariableSpec spec : expression.getSpecs()) {
 
-				if (name.endsWith(VariableType.COMPOSITE_PARAM.toString())) {
-					variable = new TemplateVariable(name.substring(0, name.length() - 1), VariableType.COMPOSITE_PARAM);
-				} else {
-					variable = new TemplateVariable(name, type);
-				}
+				VariableType type = spec.isExplode() && expression.getOperator().isQuery() //
+						? VariableType.COMPOSITE_PARAM //
+						: expression.getOperator().getType();
 
-				if (!variable.isRequired() && start < baseUriEndIndex) {
-					baseUriEndIndex = start;
+				TemplateVariable variable = new TemplateVariable(spec.getName(), type);
+
+				if (!variable.isRequired() && expression.getStart() < baseUriEndIndex) {
+					baseUriEndIndex = expression.getStart();
 				}
 
 				variables.add(variable);
@@ -90,6 +95,38 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		this.variables = variables.isEmpty() ? TemplateVariables.NONE : new TemplateVariables(variables);
 		this.baseUri = template.substring(0, baseUriEndIndex);
+		this.compiled = CompiledUriTemplate.of(parts, Collections.emptyList());
+	}
+
+	/**
+	 * Returns a {@link UriTemplate} for the given template string. Strings not containing any template expressions are
+	 * not parsed at all, real templates are cached, so that repeated calls with the same template only parse it once.
+	 * 
+	 * @param template must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	public static UriTemplate of(String template) {
+
+		Assert.hasText(template, "Template must not be null or empty!");
+
+		if (template.indexOf('{') == -1) {
+			return new UriTemplate(template, TemplateVariables.NONE);
+		}
+
+		UriTemplate result = CACHE.get(template);
+
+		if (result != null) {
+			return result;
+		}
+
+		result = new UriTemplate(template);
+
+		if (CACHE.size() < CACHE_LIMIT) {
+			CACHE.putIfAbsent(template, result);
+		}
+
+		return result;
 	}
 
 	/**
@@ -163,7 +200,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			return false;
 		}
 
-		return VARIABLE_REGEX.matcher(candidate).find();
+		return CompiledUriTemplate.containsExpression(candidate);
 	}
 
 	/**
@@ -182,8 +219,16 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 */
 	public List<String> getVariableNames() {
 
-		return variables.asList().stream() //
-				.map(TemplateVariable::getName).collect(Collectors.toList());
+		List<String> variableNames = this.variableNames;
+
+		if (variableNames == null) {
+
+			variableNames = Collections.unmodifiableList(variables.asList().stream() //
+					.map(TemplateVariable::getName).collect(Collectors.toList()));
+			this.variableNames = variableNames;
+		}
+
+		return variableNames;
 	}
 
 	/**
@@ -195,22 +240,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 * @see #expand(Map)
 	 */
 	public URI expand(Object... parameters) {
-
-		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
-		}
-
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
-		Iterator<Object> iterator = Arrays.asList(parameters).iterator();
-
-		for (TemplateVariable variable : getOptionalVariables()) {
-
-			Object value = iterator.hasNext() ? iterator.next() : null;
-			appendToBuilder(builder, variable, value);
-		}
-
-		return builder.build().toUri();
+		return URI.create(getCompiled().expand(parameters));
 	}
 
 	/**
@@ -222,19 +252,12 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	public URI expand(Map<String, ? extends Object> parameters) {
 
 		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
+			return URI.create(getCompiled().expand());
 		}
 
 		Assert.notNull(parameters, "Parameters must not be null!");
 
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
-
-		for (TemplateVariable variable : getOptionalVariables()) {
-			appendToBuilder(builder, variable, parameters.get(variable.getName()));
-		}
-
-		return builder.build().toUri();
+		return URI.create(getCompiled().expand(parameters));
 	}
 
 	/* 
@@ -253,76 +276,56 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	@Override
 	public String toString() {
 
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
-		boolean hasQueryParameters = !components.getQueryParams().isEmpty();
+		String string = this.string;
 
-		return baseUri + getOptionalVariables().toString(hasQueryParameters);
-	}
+		if (string == null && getOptionalVariables().asList().isEmpty()) {
+			string = baseUri;
+			this.string = string;
+		}
 
-	private TemplateVariables getOptionalVariables() {
+		if (string == null) {
+
+			UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
+			boolean hasQueryParameters = !components.getQueryParams().isEmpty();
 
-		return variables.asList().stream() //
-				.filter(variable -> !variable.isRequired()) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), TemplateVariables::new));
+			string = baseUri + getOptionalVariables().toString(hasQueryParameters);
+			this.string = string;
+		}
+
+		return string;
 	}
 
-	/**
-	 * Appends the value for the given {@link TemplateVariable} to the given {@link UriComponentsBuilder}.
-	 * 
-	 * @param builder must not be {@literal null}.
-	 * @param variable must not be {@literal null}.
-	 * @param value can be {@literal null}.
-	 */
-	private static void appendToBuilder(UriComponentsBuilder builder, TemplateVariable variable, Object value) {
+	private TemplateVariables getOptionalVariables() {
 
-		if (value == null) {
+		TemplateVariables optionalVariables = this.optionalVariables;
 
-			if (variable.isRequired()) {
-				throw new IllegalArgumentException(
-						String.format("Template variable %s is required but no value was given!", variable.getName()));
-			}
+		if (optionalVariables == null) {
 
-			return;
+			optionalVariables = variables.asList().stream() //
+					.filter(variable -> !variable.isRequired()) //
+					.collect(Collectors.collectingAndThen(Collectors.toList(), TemplateVariables::new));
+			this.optionalVariables = optionalVariables;
 		}
 
-		switch (variable.getType()) {
-			case COMPOSITE_PARAM:
-				appendComposite(builder, variable.getName(), value);
-				break;
-			case REQUEST_PARAM:
-			case REQUEST_PARAM_CONTINUED:
-				builder.queryParam(variable.getName(), value);
-				break;
-			case PATH_VARIABLE:
-			case SEGMENT:
-				builder.pathSegment(value.toString());
-				break;
-			case FRAGMENT:
-				builder.fragment(value.toString());
-				break;
-		}
+		return optionalVariables;
 	}
 
 	/**
-	 * Expand what could be a single value, a {@link List}, or a {@link Map}.
-	 *
-	 * @param builder
-	 * @param name
-	 * @param value
-	 * @see https://tools.ietf.org/html/rfc6570#section-2.4.2
+	 * Returns the {@link CompiledUriTemplate} for the current base URI and optional variables, compiling it on first
+	 * access.
+	 * 
+	 * @return
 	 */
-	private static void appendComposite(UriComponentsBuilder builder, String name, Object value) {
+	private CompiledUriTemplate getCompiled() {
 
-		if (value instanceof Iterable) {
-			for (Object valuePart : (Iterable<?>) value) {
-				builder.queryParam(name, valuePart);
-			}
-		} else if (value instanceof Map) {
-			for (Entry<Object, Object> queryParam : (Set<Entry<Object, Object>>) ((Map) value).entrySet()) {
-				builder.queryParam(queryParam.getKey().toString(), queryParam.getValue());
-			}
-		} else {
-			builder.queryParam(name, value);
+		CompiledUriTemplate compiled = this.compiled;
+
+		if (compiled == null) {
+
+			compiled = CompiledUriTemplate.of(baseUri, getOptionalVariables().asList());
+			this.compiled = compiled;
 		}
+
+		return compiled;
 	}
 }
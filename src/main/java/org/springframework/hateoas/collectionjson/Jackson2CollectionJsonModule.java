@@ -35,6 +35,7 @@ import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamingResources;
 import org.springframework.hateoas.support.JacksonHelper;
 import org.springframework.hateoas.support.PropertyUtils;
 import org.springframework.http.HttpMethod;
@@ -57,6 +58,7 @@ import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 /**
@@ -75,6 +77,7 @@ public class Jackson2CollectionJsonModule extends SimpleModule {
 		setMixInAnnotation(Resource.class, ResourceMixin.class);
 		setMixInAnnotation(Resources.class, ResourcesMixin.class);
 		setMixInAnnotation(PagedResources.class, PagedResourcesMixin.class);
+		setMixInAnnotation(StreamingResources.class, StreamingResourcesMixin.class);
 	}
 
 	/**
@@ -279,6 +282,66 @@ public class Jackson2CollectionJsonModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Renders {@link StreamingResources} item by item instead of materializing a {@link CollectionJsonDocument}. Produces
+	 * the same output as the rendering of {@link Resources} and closes the {@link StreamingResources} in any case.
+	 */
+	static class CollectionJsonStreamingResourcesSerializer extends StdSerializer<StreamingResources<?>> {
+
+		CollectionJsonStreamingResourcesSerializer() {
+			super(StreamingResources.class, false);
+		}
+
+		@Override
+		public void serialize(StreamingResources<?> value, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			try {
+
+				List<Link> links = withoutSelfLink(value.getLinks());
+				List<CollectionJsonQuery> queries = findQueries(value);
+				CollectionJsonTemplate template = findTemplate(value);
+
+				jgen.writeStartObject();
+				jgen.writeObjectFieldStart("collection");
+				jgen.writeStringField("version", "1.0");
+				jgen.writeStringField("href", value.getRequiredLink(Link.REL_SELF).getHref());
+
+				if (!links.isEmpty()) {
+					jgen.writeFieldName("links");
+					provider.defaultSerializeValue(links, jgen);
+				}
+
+				if (value.peek().isPresent()) {
+
+					jgen.writeArrayFieldStart("items");
+
+					for (Object content : value) {
+						provider.defaultSerializeValue(toCollectionJsonItem(content), jgen);
+					}
+
+					jgen.writeEndArray();
+				}
+
+				if (!queries.isEmpty()) {
+					jgen.writeFieldName("queries");
+					provider.defaultSerializeValue(queries, jgen);
+				}
+
+				if (template != null) {
+					jgen.writeFieldName("template");
+					provider.defaultSerializeValue(template, jgen);
+				}
+
+				jgen.writeEndObject();
+				jgen.writeEndObject();
+
+			} finally {
+				value.close();
+			}
+		}
+	}
+
 	static class CollectionJsonResourcesSerializer extends ContainerSerializer<Resources<?>> implements ContextualSerializer {
 
 		private final BeanProperty property;
@@ -817,20 +880,23 @@ public class Jackson2CollectionJsonModule extends SimpleModule {
 	private static List<CollectionJsonItem<?>> resourcesToCollectionJsonItems(Resources<?> resources) {
 		
 		return resources.getContent().stream()
-			.map(content -> {
-				if (ClassUtils.isAssignableValue(Resource.class, content)) {
+			.map(Jackson2CollectionJsonModule::toCollectionJsonItem)
+			.collect(Collectors.toList());
+	}
 
-					Resource resource = (Resource) content;
+	private static CollectionJsonItem<?> toCollectionJsonItem(Object content) {
 
-					return new CollectionJsonItem<>()
-						.withHref(resource.getRequiredLink(Link.REL_SELF).getHref())
-						.withLinks(withoutSelfLink(resource.getLinks()))
-						.withRawData(resource.getContent());
-				} else {
-					return new CollectionJsonItem<>().withRawData(content);
-				}
-			})
-			.collect(Collectors.toList());
+		if (ClassUtils.isAssignableValue(Resource.class, content)) {
+
+			Resource resource = (Resource) content;
+
+			return new CollectionJsonItem<>()
+				.withHref(resource.getRequiredLink(Link.REL_SELF).getHref())
+				.withLinks(withoutSelfLink(resource.getLinks()))
+				.withRawData(resource.getContent());
+		} else {
+			return new CollectionJsonItem<>().withRawData(content);
+		}
 	}
 
 	/**
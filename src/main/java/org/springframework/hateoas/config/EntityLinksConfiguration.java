@@ -15,6 +15,10 @@
  */
 package org.springframework.hateoas.config;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
@@ -22,10 +26,13 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.core.ControllerEntityLinksFactoryBean;
 import org.springframework.hateoas.core.DelegatingEntityLinks;
+import org.springframework.hateoas.mvc.ControllerLinkBuilder;
 import org.springframework.hateoas.mvc.ControllerLinkBuilderFactory;
+import org.springframework.hateoas.mvc.HandlerMappingMappingDiscoverer;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.plugin.core.support.PluginRegistryFactoryBean;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 /**
  * Spring configuration to register a {@link PluginRegistry} for {@link EntityLinks}.
@@ -64,7 +71,27 @@ class EntityLinksConfiguration {
 	}
 
 	@Bean
-	ControllerLinkBuilderFactory controllerLinkBuilderFactoryBean() {
-		return new ControllerLinkBuilderFactory();
+	ControllerLinkBuilderFactory controllerLinkBuilderFactoryBean(
+			HandlerMappingMappingDiscoverer handlerMappingMappingDiscoverer) {
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+		factory.setMappingDiscoverer(handlerMappingMappingDiscoverer);
+
+		return factory;
+	}
+
+	/**
+	 * The {@link HandlerMappingMappingDiscoverer} to look up mappings from all {@link RequestMappingHandlerMapping}s
+	 * available. Registered as bean so that it gets notified about context refreshes.
+	 * 
+	 * @param handlerMappings
+	 * @return
+	 */
+	@Bean
+	HandlerMappingMappingDiscoverer handlerMappingMappingDiscoverer(
+			ObjectProvider<List<RequestMappingHandlerMapping>> handlerMappings) {
+
+		return new HandlerMappingMappingDiscoverer(() -> handlerMappings.getIfAvailable(Collections::emptyList),
+				ControllerLinkBuilder.getMappingDiscoverer());
 	}
 }
@@ -15,6 +15,11 @@
  */
 package org.springframework.hateoas.config;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.context.annotation.Bean;
@@ -29,11 +34,14 @@ import org.springframework.hateoas.core.AnnotationRelProvider;
 import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.core.DelegatingRelProvider;
 import org.springframework.hateoas.core.EvoInflectorRelProvider;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderWarmUp;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.plugin.core.config.EnablePluginRegistries;
 import org.springframework.plugin.core.support.PluginRegistryFactoryBean;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Common HATEOAS specific configuration.
@@ -47,7 +55,9 @@ import org.springframework.util.ClassUtils;
 class HateoasConfiguration {
 
 	/**
-	 * The {@link MessageSourceAccessor} to provide messages for {@link ResourceDescription}s being rendered.
+	 * The {@link MessageSourceAccessor} to provide messages for {@link ResourceDescription}s being rendered. The
+	 * {@code rest-messages} bundle is loaded eagerly for the default {@link Locale} so that the first rendering of link
+	 * titles doesn't have to. As the bundle is never reloaded, the messages resolved from it are cached.
 	 * 
 	 * @return
 	 */
@@ -56,10 +66,10 @@ class HateoasConfiguration {
 
 		try {
 
-			ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
+			PreloadingMessageSource messageSource = new PreloadingMessageSource();
 			messageSource.setBasename("classpath:rest-messages");
 
-			return new MessageSourceAccessor(messageSource);
+			return new CachingMessageSourceAccessor(messageSource, Locale.getDefault());
 
 		} catch (Exception o_O) {
 			throw new BeanCreationException("resourceDescriptionMessageSourceAccessor", "", o_O);
@@ -72,6 +82,17 @@ class HateoasConfiguration {
 		return new ConverterRegisteringBeanPostProcessor(configurer);
 	}
 
+	/**
+	 * Eagerly populates the caches used to build links to Spring MVC controllers once the application context has been
+	 * refreshed. Only active if {@value ControllerLinkBuilderWarmUp#ENABLED_PROPERTY} is set to {@literal true}.
+	 * 
+	 * @return
+	 */
+	@Bean
+	ControllerLinkBuilderWarmUp controllerLinkBuilderWarmUp() {
+		return new ControllerLinkBuilderWarmUp();
+	}
+
 	// RelProvider
 
 	@Bean
@@ -110,4 +131,77 @@ class HateoasConfiguration {
 	LinkDiscoverers linkDiscoverers(PluginRegistry<LinkDiscoverer, MediaType> discoverers) {
 		return new LinkDiscoverers(discoverers);
 	}
+
+	/**
+	 * {@link ReloadableResourceBundleMessageSource} that allows to load the properties for a {@link Locale} upfront.
+	 */
+	private static class PreloadingMessageSource extends ReloadableResourceBundleMessageSource {
+
+		/**
+		 * Loads and caches the merged properties for the given {@link Locale}.
+		 *
+		 * @param locale must not be {@literal null}.
+		 * @return the messages loaded for the given {@link Locale}, will never be {@literal null}.
+		 */
+		Properties preload(Locale locale) {
+
+			Properties properties = getMergedProperties(locale).getProperties();
+
+			return properties == null ? new Properties() : properties;
+		}
+	}
+
+	/**
+	 * {@link MessageSourceAccessor} caching the messages resolved without arguments per {@link Locale}, including the ones
+	 * not found. Only to be used with a {@link PreloadingMessageSource} that doesn't reload its bundles.
+	 */
+	private static class CachingMessageSourceAccessor extends MessageSourceAccessor {
+
+		private final PreloadingMessageSource messageSource;
+		private final Map<Locale, Map<String, Optional<String>>> messages = new ConcurrentReferenceHashMap<>();
+
+		/**
+		 * Creates a new {@link CachingMessageSourceAccessor} for the given {@link PreloadingMessageSource} and seeds the
+		 * cache with the messages for the given {@link Locale}.
+		 *
+		 * @param messageSource must not be {@literal null}.
+		 * @param locale must not be {@literal null}.
+		 */
+		CachingMessageSourceAccessor(PreloadingMessageSource messageSource, Locale locale) {
+
+			super(messageSource);
+
+			this.messageSource = messageSource;
+
+			Map<String, Optional<String>> seed = getMessages(locale);
+
+			messageSource.preload(locale)
+					.forEach((code, message) -> seed.put(code.toString(), Optional.of(message.toString())));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.support.MessageSourceAccessor#getMessage(java.lang.String, java.lang.String)
+		 */
+		@Override
+		public String getMessage(String code, @Nullable String defaultMessage) {
+			return getMessage(code, defaultMessage, getDefaultLocale());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.support.MessageSourceAccessor#getMessage(java.lang.String, java.lang.String, java.util.Locale)
+		 */
+		@Override
+		public String getMessage(String code, @Nullable String defaultMessage, Locale locale) {
+
+			return getMessages(locale) //
+					.computeIfAbsent(code, it -> Optional.ofNullable(messageSource.getMessage(it, null, null, locale))) //
+					.orElse(defaultMessage);
+		}
+
+		private Map<String, Optional<String>> getMessages(Locale locale) {
+			return messages.computeIfAbsent(locale, it -> new ConcurrentReferenceHashMap<>());
+		}
+	}
 }
@@ -29,7 +29,9 @@ import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.LinkDiscoverer;
@@ -37,7 +39,9 @@ import org.springframework.hateoas.collectionjson.CollectionJsonLinkDiscoverer;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
 import org.springframework.hateoas.hal.forms.HalFormsLinkDiscoverer;
+import org.springframework.hateoas.reactive.HypermediaWebFilter;
 import org.springframework.util.ClassUtils;
+import org.springframework.web.context.WebApplicationContext;
 
 /**
  * {@link ImportBeanDefinitionRegistrar} implementation to activate hypermedia support based on the configured
@@ -47,9 +51,22 @@ import org.springframework.util.ClassUtils;
  * @author Oliver Gierke
  * @author Greg Turnquist
  */
-class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRegistrar {
+class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRegistrar, ResourceLoaderAware {
 
 	private static final boolean JSONPATH_PRESENT = ClassUtils.isPresent("com.jayway.jsonpath.JsonPath", null);
+	private static final boolean WEBFLUX_PRESENT = ClassUtils
+			.isPresent("org.springframework.web.reactive.DispatcherHandler", null);
+
+	private ResourceLoader resourceLoader;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ResourceLoaderAware#setResourceLoader(org.springframework.core.io.ResourceLoader)
+	 */
+	@Override
+	public void setResourceLoader(ResourceLoader resourceLoader) {
+		this.resourceLoader = resourceLoader;
+	}
 
 	/*
 	 * (non-Javadoc)
@@ -74,6 +91,22 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 		BeanDefinitionBuilder configurerBeanDefinition = rootBeanDefinition(ConverterRegisteringWebMvcConfigurer.class);
 		configurerBeanDefinition.addPropertyValue("hypermediaTypes", types);
 		registerSourcedBeanDefinition(configurerBeanDefinition, metadata, registry);
+
+		if (isReactiveWebApplication()) {
+			registerSourcedBeanDefinition(rootBeanDefinition(HypermediaWebFilter.class), metadata, registry);
+			registerSourcedBeanDefinition(rootBeanDefinition(WebFluxHateoasConfiguration.class), metadata, registry);
+		}
+	}
+
+	/**
+	 * Returns whether we're set up in a reactive web application, i.e. Spring WebFlux is present and we're not in a
+	 * Servlet based {@link WebApplicationContext}. Having WebFlux on the classpath for its {@code WebClient} alone doesn't
+	 * make a Spring MVC application a reactive one.
+	 * 
+	 * @return
+	 */
+	private boolean isReactiveWebApplication() {
+		return WEBFLUX_PRESENT && !(resourceLoader instanceof WebApplicationContext);
 	}
 
 	/**
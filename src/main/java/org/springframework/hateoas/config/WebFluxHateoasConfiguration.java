@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessor;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessorInvoker;
+import org.springframework.hateoas.reactive.ResourceProcessorHandlerResultHandler;
+import org.springframework.web.reactive.result.method.annotation.ResponseBodyResultHandler;
+
+/**
+ * Spring WebFlux specific configuration. Registers a {@link ResourceProcessorHandlerResultHandler} taking precedence
+ * over the {@link ResponseBodyResultHandler} of WebFlux to apply the {@link ResourceProcessor}s and
+ * {@link ReactiveResourceProcessor}s to the values returned from controller methods.
+ *
+ * @since 1.0
+ */
+@Configuration
+class WebFluxHateoasConfiguration {
+
+	@Bean
+	ReactiveResourceProcessorInvoker reactiveResourceProcessorInvoker(
+			ObjectProvider<List<ResourceProcessor<?>>> processors,
+			ObjectProvider<List<ReactiveResourceProcessor<?>>> reactiveProcessors) {
+
+		ResourceProcessorInvoker invoker = new ResourceProcessorInvoker(processors.getIfAvailable(Collections::emptyList));
+
+		return new ReactiveResourceProcessorInvoker(invoker, reactiveProcessors.getIfAvailable(Collections::emptyList));
+	}
+
+	@Bean
+	ResourceProcessorHandlerResultHandler resourceProcessorHandlerResultHandler(
+			ObjectProvider<ResponseBodyResultHandler> delegate, ReactiveResourceProcessorInvoker invoker) {
+		return new ResourceProcessorHandlerResultHandler(delegate::getIfAvailable, invoker);
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import lombok.Value;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link MappingDiscoverer} that caches the results of a delegate {@link MappingDiscoverer} in bounded caches and
+ * keeps track of cache hits and misses.
+ *
+ * @since 1.0
+ */
+public class CachingMappingDiscoverer implements MappingDiscoverer {
+
+	private static final int DEFAULT_CACHE_LIMIT = 4096;
+
+	private final MappingDiscoverer delegate;
+	private final Cache<Class<?>, Optional<String>> typeMappings;
+	private final Cache<MethodKey, Optional<String>> methodMappings;
+	private final Cache<MethodKey, Collection<HttpMethod>> requestMethods;
+
+	/**
+	 * Creates a new {@link CachingMappingDiscoverer} for the given delegate {@link MappingDiscoverer} using a default
+	 * limit of cache entries.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingMappingDiscoverer(MappingDiscoverer delegate) {
+		this(delegate, DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Creates a new {@link CachingMappingDiscoverer} for the given delegate {@link MappingDiscoverer} and maximum number
+	 * of entries per cache. Results for lookups exceeding that limit will not be cached.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param cacheLimit must be greater than zero.
+	 */
+	public CachingMappingDiscoverer(MappingDiscoverer delegate, int cacheLimit) {
+
+		Assert.notNull(delegate, "Delegate MappingDiscoverer must not be null!");
+		Assert.isTrue(cacheLimit > 0, "Cache limit must be greater than zero!");
+
+		this.delegate = delegate;
+		this.typeMappings = new Cache<>("type mappings", cacheLimit);
+		this.methodMappings = new Cache<>("method mappings", cacheLimit);
+		this.requestMethods = new Cache<>("request methods", cacheLimit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class)
+	 */
+	@Override
+	public String getMapping(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return typeMappings.get(type, it -> Optional.ofNullable(delegate.getMapping(it))).orElse(null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.reflect.Method)
+	 */
+	@Override
+	public String getMapping(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return getMapping(method.getDeclaringClass(), method);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public String getMapping(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		return methodMappings.get(new MethodKey(type, method),
+				it -> Optional.ofNullable(delegate.getMapping(it.getType(), it.getMethod()))).orElse(null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getRequestMethod(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public Collection<HttpMethod> getRequestMethod(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		return requestMethods.get(new MethodKey(type, method),
+				it -> Collections.unmodifiableCollection(delegate.getRequestMethod(it.getType(), it.getMethod())));
+	}
+
+	/**
+	 * Returns the {@link CacheStatistics} for the caches for type mappings, method mappings and request methods.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<CacheStatistics> getStatistics() {
+		return Arrays.asList(typeMappings.getStatistics(), methodMappings.getStatistics(),
+				requestMethods.getStatistics());
+	}
+
+	/**
+	 * Point-in-time statistics of one of the caches.
+	 */
+	@Value
+	public static class CacheStatistics {
+
+		String name;
+		long hits, misses;
+		int size;
+	}
+
+	@Value
+	private static class MethodKey {
+
+		Class<?> type;
+		Method method;
+	}
+
+	/**
+	 * A bounded cache keeping track of hits and misses.
+	 */
+	private static class Cache<K, V> {
+
+		private final String name;
+		private final int limit;
+		private final Map<K, V> values = new ConcurrentReferenceHashMap<>();
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		Cache(String name, int limit) {
+
+			this.name = name;
+			this.limit = limit;
+		}
+
+		V get(K key, Function<K, V> loader) {
+
+			V value = values.get(key);
+
+			if (value != null) {
+				hits.increment();
+				return value;
+			}
+
+			misses.increment();
+			value = loader.apply(key);
+
+			if (values.size() < limit) {
+				values.putIfAbsent(key, value);
+			}
+
+			return value;
+		}
+
+		CacheStatistics getStatistics() {
+			return new CacheStatistics(name, hits.sum(), misses.sum(), values.size());
+		}
+	}
+}
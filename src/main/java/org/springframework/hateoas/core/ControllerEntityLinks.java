@@ -15,7 +15,9 @@
  */
 package org.springframework.hateoas.core;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.core.annotation.AnnotationUtils;
@@ -131,7 +133,36 @@ public class ControllerEntityLinks extends AbstractEntityLinks {
 	 */
 	@Override
 	public Link linkToSingleResource(Class<?> entity, Object id) {
-		return linkFor(entity).slash(id).withSelfRel();
+
+		LinkBuilder builder = linkFor(entity);
+
+		return builder instanceof LinkBuilderSupport //
+				? ((LinkBuilderSupport<?>) builder).slashWithRel(id, Link.REL_SELF) //
+				: builder.slash(id).withSelfRel();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.EntityLinks#linkToSingleResources(java.lang.Class, java.lang.Iterable)
+	 */
+	@Override
+	public List<Link> linkToSingleResources(Class<?> entity, Iterable<?> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		LinkBuilder builder = linkFor(entity);
+
+		if (builder instanceof LinkBuilderSupport) {
+			return ((LinkBuilderSupport<?>) builder).slashAll(ids, Link.REL_SELF);
+		}
+
+		List<Link> links = new ArrayList<>();
+
+		for (Object id : ids) {
+			links.add(builder.slash(id).withSelfRel());
+		}
+
+		return links;
 	}
 
 	/* 
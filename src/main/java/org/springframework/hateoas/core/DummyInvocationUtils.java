@@ -18,18 +18,22 @@ package org.springframework.hateoas.core;
 import lombok.NonNull;
 import lombok.Value;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
-import org.aopalliance.intercept.MethodInterceptor;
-import org.springframework.aop.framework.ProxyFactory;
-import org.springframework.aop.target.EmptyTargetSource;
+import org.springframework.beans.BeanUtils;
 import org.springframework.cglib.proxy.Callback;
 import org.springframework.cglib.proxy.Enhancer;
 import org.springframework.cglib.proxy.Factory;
 import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.core.NamedThreadLocal;
 import org.springframework.objenesis.ObjenesisStd;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
@@ -46,6 +50,20 @@ public class DummyInvocationUtils {
 	private static final ObjenesisStd OBJENESIS = new ObjenesisStd();
 	private static final Map<Class<?>, Class<?>> CLASS_CACHE = new ConcurrentReferenceHashMap<>(16,
 			ReferenceType.WEAK);
+	private static final Map<Class<?>, Constructor<?>> INTERFACE_PROXY_CACHE = new ConcurrentReferenceHashMap<>(16,
+			ReferenceType.WEAK);
+	private static final ThreadLocal<Map<Class<?>, InvocationRecordingMethodInterceptor>> RECORDERS = new NamedThreadLocal<Map<Class<?>, InvocationRecordingMethodInterceptor>>(
+			"Reusable method invocation recorders") {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.ThreadLocal#initialValue()
+		 */
+		@Override
+		protected Map<Class<?>, InvocationRecordingMethodInterceptor> initialValue() {
+			return new ConcurrentReferenceHashMap<>(16, ReferenceType.SOFT);
+		}
+	};
 
 	public interface LastInvocationAware {
 
@@ -61,15 +79,19 @@ public class DummyInvocationUtils {
 	 * @author Oliver Gierke
 	 */
 	private static class InvocationRecordingMethodInterceptor
-			implements MethodInterceptor, LastInvocationAware, org.springframework.cglib.proxy.MethodInterceptor {
+			implements InvocationHandler, LastInvocationAware, org.springframework.cglib.proxy.MethodInterceptor {
 
 		private static final Method GET_INVOCATIONS;
 		private static final Method GET_OBJECT_PARAMETERS;
 
 		private final Class<?> targetType;
-		private final Object[] objectParameters;
+		private final boolean reusable;
+		private Object[] objectParameters;
 		private MethodInvocation invocation;
 
+		private Object recordingProxy;
+		private Map<Class<?>, Object> returnValueProxies;
+
 		static {
 			GET_INVOCATIONS = ReflectionUtils.findMethod(LastInvocationAware.class, "getLastInvocation");
 			GET_OBJECT_PARAMETERS = ReflectionUtils.findMethod(LastInvocationAware.class, "getObjectParameters");
@@ -83,12 +105,44 @@ public class DummyInvocationUtils {
 		 * @param parameters must not be {@literal null}.
 		 */
 		InvocationRecordingMethodInterceptor(Class<?> targetType, Object... parameters) {
+			this(targetType, false, parameters);
+		}
+
+		/**
+		 * Creates a new {@link InvocationRecordingMethodInterceptor} carrying the given parameters forward that might be
+		 * needed to populate the class level mapping. A reusable interceptor also keeps the proxies it creates for return
+		 * values around so that they can be reused after a {@link #reset(Object...)}.
+		 * 
+		 * @param targetType must not be {@literal null}.
+		 * @param reusable whether the interceptor is going to be reused.
+		 * @param parameters must not be {@literal null}.
+		 */
+		private InvocationRecordingMethodInterceptor(Class<?> targetType, boolean reusable, Object... parameters) {
 
 			Assert.notNull(targetType, "Target type must not be null!");
 			Assert.notNull(parameters, "Parameters must not be null!");
 
 			this.targetType = targetType;
+			this.reusable = reusable;
 			this.objectParameters = parameters.clone();
+			this.returnValueProxies = reusable ? new HashMap<>() : null;
+		}
+
+		/**
+		 * Resets the interceptor to record a new method invocation using the given parameters to populate the class level
+		 * mapping.
+		 * 
+		 * @param parameters must not be {@literal null}.
+		 * @return the proxy the interceptor was registered with.
+		 */
+		Object reset(Object... parameters) {
+
+			Assert.notNull(parameters, "Parameters must not be null!");
+
+			this.objectParameters = parameters.length == 0 ? parameters : parameters.clone();
+			this.invocation = null;
+
+			return recordingProxy;
 		}
 
 		/*
@@ -109,16 +163,35 @@ public class DummyInvocationUtils {
 			this.invocation = new SimpleMethodInvocation(targetType, method, args);
 
 			Class<?> returnType = method.getReturnType();
-			return returnType.cast(getProxyWithInterceptor(returnType, this, obj.getClass().getClassLoader()));
+
+			if (!reusable) {
+				return returnType.cast(getProxyWithInterceptor(returnType, this, obj.getClass().getClassLoader()));
+			}
+
+			return returnType.cast(returnValueProxies.computeIfAbsent(returnType,
+					it -> getProxyWithInterceptor(it, this, obj.getClass().getClassLoader())));
 		}
 
-		/* 
+		/*
 		 * (non-Javadoc)
-		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
 		 */
 		@Override
-		public Object invoke(org.aopalliance.intercept.MethodInvocation invocation) throws Throwable {
-			return intercept(invocation.getThis(), invocation.getMethod(), invocation.getArguments(), null);
+		public Object invoke(Object proxy, Method method, Object[] args) {
+
+			if (Object.class.equals(method.getDeclaringClass())) {
+
+				switch (method.getName()) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					default:
+						return String.format("Invocation recording proxy for %s", targetType.getName());
+				}
+			}
+
+			return intercept(proxy, method, args == null ? new Object[0] : args, null);
 		}
 
 		/*
@@ -141,8 +214,8 @@ public class DummyInvocationUtils {
 	}
 
 	/**
-	 * Returns a proxy of the given type, backed by an {@link EmptyTargetSource} to simply drop method invocations but
-	 * equips it with an {@link InvocationRecordingMethodInterceptor}. The interceptor records the last invocation and
+	 * Returns a proxy of the given type that simply drops method invocations but equips it with an
+	 * {@link InvocationRecordingMethodInterceptor}. The interceptor records the last invocation and
 	 * returns a proxy of the return type that also implements {@link LastInvocationAware} so that the last method
 	 * invocation can be inspected. Parameters passed to the subsequent method invocation are generally neglected except
 	 * the ones that might be mapped into the URI translation eventually, e.g. {@linke PathVariable} in the case of Spring
@@ -160,18 +233,95 @@ public class DummyInvocationUtils {
 		return getProxyWithInterceptor(type, interceptor, type.getClassLoader());
 	}
 
+	/**
+	 * Same as {@link #methodOn(Class, Object...)} but reuses the proxy, the proxies for the return values and the
+	 * underlying recorder for subsequent calls for the same type on the same thread. That means that the returned
+	 * instance <em>must</em> be used to create a link before {@link #reusableMethodOn(Class, Object...)} is invoked for
+	 * the same type again on the current thread:
+	 * 
+	 * <pre>
+	 * Link link = linkTo(reusableMethodOn(CustomerController.class).show(id)).withSelfRel();
+	 * </pre>
+	 * 
+	 * The method invocations recorded are not affected by subsequent calls, so that link builders already created stay
+	 * valid. The recorders are held in a {@link ThreadLocal}, so code running on pooled threads that outlive the
+	 * application (e.g. a servlet container's worker threads across redeployments) should call
+	 * {@link #clearReusableProxies()} once it is done creating links.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param parameters parameters to extend template variables in the type level mapping.
+	 * @return
+	 * @since 1.0
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T reusableMethodOn(Class<T> type, Object... parameters) {
+
+		Assert.notNull(type, "Given type must not be null!");
+
+		InvocationRecordingMethodInterceptor interceptor = RECORDERS.get().computeIfAbsent(type, it -> {
+
+			InvocationRecordingMethodInterceptor recorder = new InvocationRecordingMethodInterceptor(it, true);
+			recorder.recordingProxy = getProxyWithInterceptor(it, recorder, it.getClassLoader());
+
+			return recorder;
+		});
+
+		return (T) interceptor.reset(parameters);
+	}
+
+	/**
+	 * Removes the proxies and recorders set up by {@link #reusableMethodOn(Class, Object...)} for the current thread. Call
+	 * this when the thread is done creating links, e.g. at the end of a request, to make sure no references to
+	 * application classes are kept on pooled threads.
+	 * 
+	 * @since 1.0
+	 */
+	public static void clearReusableProxies() {
+		RECORDERS.remove();
+	}
+
+	/**
+	 * Eagerly creates the proxy class needed to record method invocations on the given type so that the first call to
+	 * {@link #methodOn(Class, Object...)} for it doesn't have to. Types that cannot be proxied are skipped.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return whether a proxy class is available for the given type.
+	 * @since 1.0
+	 */
+	public static boolean prepareProxy(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		if (type.isPrimitive() || type.isArray() || Modifier.isFinal(type.getModifiers())) {
+			return false;
+		}
+
+		ClassLoader classLoader = type.getClassLoader() == null //
+				? DummyInvocationUtils.class.getClassLoader() //
+				: type.getClassLoader();
+
+		try {
+
+			if (type.isInterface()) {
+				getOrCreateInterfaceProxyConstructor(type, classLoader);
+			} else {
+				getOrCreateEnhancedClass(type, classLoader);
+			}
+
+			return true;
+
+		} catch (RuntimeException o_O) {
+			return false;
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T getProxyWithInterceptor(Class<?> type, InvocationRecordingMethodInterceptor interceptor,
 			ClassLoader classLoader) {
 
 		if (type.isInterface()) {
 
-			ProxyFactory factory = new ProxyFactory(EmptyTargetSource.INSTANCE);
-			factory.addInterface(type);
-			factory.addInterface(LastInvocationAware.class);
-			factory.addAdvice(interceptor);
-
-			return (T) factory.getProxy();
+			return (T) BeanUtils.instantiateClass(getOrCreateInterfaceProxyConstructor(type, classLoader), interceptor);
 		}
 
 		Factory factory = (Factory) OBJENESIS.newInstance(getOrCreateEnhancedClass(type, classLoader));
@@ -212,6 +362,33 @@ public class DummyInvocationUtils {
 		});
 	}
 
+	/**
+	 * Returns the already resolved constructor of the JDK proxy class for the given interface or creates the proxy class
+	 * and resolves it. As the entries of the cache are only weakly referenced, the constructor doesn't keep the interface
+	 * from being garbage collected.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param classLoader can be {@literal null}.
+	 * @return
+	 */
+	private static Constructor<?> getOrCreateInterfaceProxyConstructor(Class<?> type, ClassLoader classLoader) {
+
+		Assert.notNull(type, "Source type must not be null!");
+
+		return INTERFACE_PROXY_CACHE.computeIfAbsent(type, key -> {
+
+			ClassLoader loader = classLoader == null ? DummyInvocationUtils.class.getClassLoader() : classLoader;
+			Object proxy = Proxy.newProxyInstance(loader, new Class<?>[] { key, LastInvocationAware.class },
+					(it, method, args) -> null);
+
+			try {
+				return proxy.getClass().getConstructor(InvocationHandler.class);
+			} catch (NoSuchMethodException o_O) {
+				throw new IllegalStateException(o_O);
+			}
+		});
+	}
+
 	@Value
 	static class SimpleMethodInvocation implements MethodInvocation {
 
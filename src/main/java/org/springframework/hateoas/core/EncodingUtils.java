@@ -17,6 +17,10 @@ package org.springframework.hateoas.core;
 
 import lombok.experimental.UtilityClass;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
 import org.springframework.util.Assert;
 import org.springframework.web.util.UriUtils;
 
@@ -31,7 +35,7 @@ import org.springframework.web.util.UriUtils;
 @UtilityClass
 public class EncodingUtils {
 
-	private static final String ENCODING = "UTF-8";
+	private static final Charset ENCODING = StandardCharsets.UTF_8;
 
 	/**
 	 * Encodes the given path value.
@@ -43,11 +47,42 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Path value must not be null!");
 
-		try {
-			return UriUtils.encodePath(source.toString(), ENCODING);
-		} catch (Throwable e) {
-			throw new IllegalStateException(e);
-		}
+		String value = source.toString();
+
+		return Component.PATH.requiresEncoding(value) ? UriUtils.encodePath(value, ENCODING) : value;
+	}
+
+	/**
+	 * Encodes the given numeric path value. Never requires any escaping.
+	 * 
+	 * @param source
+	 * @return
+	 */
+	public static String encodePath(long source) {
+		return Long.toString(source);
+	}
+
+	/**
+	 * Encodes the given numeric path value. Never requires any escaping.
+	 * 
+	 * @param source
+	 * @return
+	 */
+	public static String encodePath(int source) {
+		return Integer.toString(source);
+	}
+
+	/**
+	 * Encodes the given {@link UUID} path value. Never requires any escaping.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	public static String encodePath(UUID source) {
+
+		Assert.notNull(source, "Path value must not be null!");
+
+		return source.toString();
 	}
 
 	/**
@@ -60,11 +95,42 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Request parameter value must not be null!");
 
-		try {
-			return UriUtils.encodeQueryParam(source.toString(), ENCODING);
-		} catch (Throwable e) {
-			throw new IllegalStateException(e);
-		}
+		String value = source.toString();
+
+		return Component.QUERY_PARAMETER.requiresEncoding(value) ? UriUtils.encodeQueryParam(value, ENCODING) : value;
+	}
+
+	/**
+	 * Encodes the given numeric request parameter value. Never requires any escaping.
+	 * 
+	 * @param source
+	 * @return
+	 */
+	public static String encodeParameter(long source) {
+		return Long.toString(source);
+	}
+
+	/**
+	 * Encodes the given numeric request parameter value. Never requires any escaping.
+	 * 
+	 * @param source
+	 * @return
+	 */
+	public static String encodeParameter(int source) {
+		return Integer.toString(source);
+	}
+
+	/**
+	 * Encodes the given {@link UUID} request parameter value. Never requires any escaping.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @return
+	 */
+	public static String encodeParameter(UUID source) {
+
+		Assert.notNull(source, "Request parameter value must not be null!");
+
+		return source.toString();
 	}
 
 	/**
@@ -77,10 +143,71 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Fragment value must not be null!");
 
-		try {
-			return UriUtils.encodeFragment(source.toString(), ENCODING);
-		} catch (Throwable e) {
-			throw new IllegalStateException(e);
+		String value = source.toString();
+
+		return Component.FRAGMENT.requiresEncoding(value) ? UriUtils.encodeFragment(value, ENCODING) : value;
+	}
+
+	/**
+	 * The URI components values can be encoded for, alongside the characters allowed in them unescaped. Mirrors the
+	 * rules of {@link UriUtils}.
+	 */
+	private enum Component {
+
+		PATH {
+
+			@Override
+			boolean isAllowed(char c) {
+				return isPchar(c) || c == '/';
+			}
+		},
+
+		QUERY_PARAMETER {
+
+			@Override
+			boolean isAllowed(char c) {
+				return c != '=' && c != '&' && (isPchar(c) || c == '/' || c == '?');
+			}
+		},
+
+		FRAGMENT {
+
+			@Override
+			boolean isAllowed(char c) {
+				return isPchar(c) || c == '/' || c == '?';
+			}
+		};
+
+		abstract boolean isAllowed(char c);
+
+		/**
+		 * Scans the given value once and returns whether any of its characters needs to be escaped.
+		 * 
+		 * @param value must not be {@literal null}.
+		 * @return
+		 */
+		boolean requiresEncoding(String value) {
+
+			for (int i = 0; i < value.length(); i++) {
+				if (!isAllowed(value.charAt(i))) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		private static boolean isPchar(char c) {
+			return isUnreserved(c) || isSubDelimiter(c) || c == ':' || c == '@';
+		}
+
+		private static boolean isUnreserved(char c) {
+			return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '.'
+					|| c == '_' || c == '~';
+		}
+
+		private static boolean isSubDelimiter(char c) {
+			return "!$&'()*+,;=".indexOf(c) != -1;
 		}
 	}
 }
@@ -16,7 +16,6 @@
 package org.springframework.hateoas.core;
 
 import static org.springframework.hateoas.core.EncodingUtils.*;
-import static org.springframework.web.util.UriComponentsBuilder.*;
 
 import lombok.Getter;
 
@@ -46,19 +45,36 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkBuilder {
 
-	private final UriComponents uriComponents;
+	/**
+	 * A snapshot of the {@link UriComponentsBuilder} the instance was created from. Only used as template for derived
+	 * instances and never modified itself. {@literal null} if the instance was created from {@link UriComponents}.
+	 */
+	private final UriComponentsBuilder builder;
+
+	/**
+	 * The {@link UriComponents} built lazily from the {@link UriComponentsBuilder}.
+	 */
+	private UriComponents uriComponents;
+
+	/**
+	 * The rendered {@link UriComponents}, calculated lazily.
+	 */
+	private String uriString;
 
 	private @Getter final List<Affordance> affordances;
 
 	/**
-	 * Creates a new {@link LinkBuilderSupport} using the given {@link UriComponentsBuilder}.
+	 * Creates a new {@link LinkBuilderSupport} using the given {@link UriComponentsBuilder}. Subsequent modifications of
+	 * the given builder do not affect the instance.
 	 * 
 	 * @param builder must not be {@literal null}.
 	 */
 	public LinkBuilderSupport(UriComponentsBuilder builder) {
 
 		Assert.notNull(builder, "UriComponentsBuilder must not be null!");
-		this.uriComponents = builder.build();
+
+		// Builders derived in slash(…) are already private copies
+		this.builder = builder instanceof DerivedUriComponentsBuilder ? builder : builder.cloneBuilder();
 		this.affordances = new ArrayList<Affordance>();
 	}
 
@@ -70,10 +86,28 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	public LinkBuilderSupport(UriComponents uriComponents) {
 
 		Assert.notNull(uriComponents, "UriComponents must not be null!");
+		this.builder = null;
 		this.uriComponents = uriComponents;
 		this.affordances = new ArrayList<Affordance>();
 	}
 
+	/**
+	 * Creates a new {@link LinkBuilderSupport} pointing to the same URI as the given one. The URI of the given instance
+	 * is rendered and shared with the new one, so that it's only rendered once for all instances created from it.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @since 1.0
+	 */
+	protected LinkBuilderSupport(LinkBuilderSupport<?> source) {
+
+		Assert.notNull(source, "Source LinkBuilderSupport must not be null!");
+
+		this.builder = null;
+		this.uriComponents = source.getUriComponents();
+		this.uriString = source.getUriString();
+		this.affordances = new ArrayList<Affordance>(source.getAffordances());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.LinkBuilder#slash(java.lang.Object)
@@ -107,8 +141,10 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 
 	protected T slash(UriComponents components, boolean encoded) {
 
-		String uriString = uriComponents.toUriString();
-		UriComponentsBuilder builder = uriString.isEmpty() ? fromUri(uriComponents.toUri()) : fromUriString(uriString);
+		// Derive from the current state without rendering and re-parsing the URI
+		UriComponentsBuilder builder = this.builder != null //
+				? new DerivedUriComponentsBuilder(this.builder) //
+				: new DerivedUriComponentsBuilder().uriComponents(uriComponents);
 
 		for (String pathSegment : components.getPathSegments()) {
 			builder.pathSegment(encoded ? pathSegment : encodePath(pathSegment));
@@ -136,12 +172,56 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 		return slash(identifyable.getId());
 	}
 
+	/**
+	 * Creates a {@link Link} with the given relation type for the given object appended to the current URI like
+	 * {@link #slash(Object)} does, i.e. the {@link Link} is identical to the one created by
+	 * {@code slash(object).withRel(rel)}. For plain identifiers the {@link Link} is created by simply appending the
+	 * encoded identifier to the rendered current URI.
+	 *
+	 * @param object can be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	public Link slashWithRel(Object object, String rel) {
+
+		Assert.hasText(rel, "Relation type must not be null or empty!");
+
+		return toLink(getAppendableUriString(), object, rel);
+	}
+
+	/**
+	 * Creates {@link Link}s with the given relation type for each of the given objects appended to the current URI like
+	 * {@link #slash(Object)} does, i.e. each {@link Link} is identical to the one created by
+	 * {@code slash(object).withRel(rel)}. The current URI is only rendered once, so that for plain identifiers each
+	 * {@link Link} is created by simply appending the encoded identifier to it.
+	 * 
+	 * @param objects must not be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	public List<Link> slashAll(Iterable<?> objects, String rel) {
+
+		Assert.notNull(objects, "Objects must not be null!");
+		Assert.hasText(rel, "Relation type must not be null or empty!");
+
+		String base = getAppendableUriString();
+		List<Link> links = new ArrayList<>();
+
+		for (Object object : objects) {
+			links.add(toLink(base, object, rel));
+		}
+
+		return links;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.LinkBuilder#toUri()
 	 */
 	public URI toUri() {
-		return uriComponents.encode().toUri().normalize();
+		return getUriComponents().encode().toUri().normalize();
 	}
 
 	public T addAffordances(Collection<Affordance> affordances) {
@@ -172,7 +252,116 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 */
 	@Override
 	public String toString() {
-		return uriComponents.toUriString();
+		return getUriString();
+	}
+
+	/**
+	 * Returns the {@link UriComponents} of the current instance, building them on first access.
+	 * 
+	 * @return
+	 */
+	private UriComponents getUriComponents() {
+
+		UriComponents uriComponents = this.uriComponents;
+
+		if (uriComponents == null) {
+			uriComponents = builder.build();
+			this.uriComponents = uriComponents;
+		}
+
+		return uriComponents;
+	}
+
+	/**
+	 * Returns the rendered {@link UriComponents} of the current instance, rendering them on first access.
+	 * 
+	 * @return
+	 */
+	private String getUriString() {
+
+		String uriString = this.uriString;
+
+		if (uriString == null) {
+			uriString = getUriComponents().toUriString();
+			this.uriString = uriString;
+		}
+
+		return uriString;
+	}
+
+	/**
+	 * Returns the rendered URI of the current instance without a trailing slash if encoded path segments can simply be
+	 * appended to it or {@literal null} if it contains a query or fragment.
+	 * 
+	 * @return
+	 */
+	private String getAppendableUriString() {
+
+		UriComponents components = getUriComponents();
+
+		if (components.getQuery() != null || components.getFragment() != null) {
+			return null;
+		}
+
+		String base = getUriString();
+
+		return base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+	}
+
+	/**
+	 * Creates a {@link Link} with the given relation type for the given object appended to the current URI.
+	 * 
+	 * @param base the URI to append plain identifiers to, {@literal null} if they can't be appended.
+	 * @param object can be {@literal null}.
+	 * @param rel must not be {@literal null} or empty.
+	 * @return
+	 */
+	private Link toLink(String base, Object object, String rel) {
+
+		String segments = base == null ? null : toEncodedPathSegments(object);
+
+		return segments == null //
+				? slash(object).withRel(rel) //
+				: new Link(base.concat(segments), rel);
+	}
+
+	/**
+	 * Returns the encoded path segments {@link #slash(Object)} would append for the given object or {@literal null} if
+	 * the object needs the full treatment, e.g. because it's empty, contains a query or fragment, empty path segments or
+	 * segments with surrounding whitespace.
+	 * 
+	 * @param object can be {@literal null}.
+	 * @return
+	 */
+	private static String toEncodedPathSegments(Object object) {
+
+		object = object instanceof Identifiable ? ((Identifiable<?>) object).getId() : object;
+		object = Optional.class.isInstance(object) ? ((Optional<?>) object).orElse(null) : object;
+
+		if (object == null || object instanceof Identifiable) {
+			return null;
+		}
+
+		String path = object.toString();
+
+		if (path.isEmpty() || path.indexOf('?') != -1 || path.indexOf('#') != -1) {
+			return null;
+		}
+
+		path = path.startsWith("/") ? path.substring(1) : path;
+
+		StringBuilder builder = new StringBuilder(path.length() + 1);
+
+		for (String segment : StringUtils.delimitedListToStringArray(path, "/")) {
+
+			if (segment.isEmpty() || !segment.trim().equals(segment)) {
+				return null;
+			}
+
+			builder.append('/').append(encodePath(segment));
+		}
+
+		return builder.length() == 0 ? null : builder.toString();
 	}
 
 	/**
@@ -189,4 +378,18 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @return
 	 */
 	protected abstract T createNewInstance(UriComponentsBuilder builder);
+
+	/**
+	 * A {@link UriComponentsBuilder} freshly derived from the state of a {@link LinkBuilderSupport} in
+	 * {@link LinkBuilderSupport#slash(UriComponents, boolean)}. As it is not shared with anyone else, instances created
+	 * from it can use it as is instead of taking another copy.
+	 */
+	private static class DerivedUriComponentsBuilder extends UriComponentsBuilder {
+
+		DerivedUriComponentsBuilder() {}
+
+		DerivedUriComponentsBuilder(UriComponentsBuilder other) {
+			super(other);
+		}
+	}
 }
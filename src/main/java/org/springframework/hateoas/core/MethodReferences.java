@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.springframework.asm.Type;
+import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Utilities to resolve the controller {@link Method} a serializable method reference points to, so that links can be
+ * built from method references like {@code CustomerController::show} without creating proxies via
+ * {@link DummyInvocationUtils}.
+ *
+ * @since 1.0
+ */
+@UtilityClass
+public class MethodReferences {
+
+	private static final Map<Class<?>, ResolvedReference> CACHE = new ConcurrentReferenceHashMap<>(16,
+			ReferenceType.WEAK);
+
+	/**
+	 * Marker interface for serializable method references.
+	 */
+	public interface MethodReference extends Serializable {}
+
+	/**
+	 * A reference to a method without parameters.
+	 *
+	 * @param <T> the controller type.
+	 */
+	@FunctionalInterface
+	public interface MethodReference0<T> extends MethodReference {
+		Object invoke(T controller);
+	}
+
+	/**
+	 * A reference to a method with a single parameter.
+	 *
+	 * @param <T> the controller type.
+	 */
+	@FunctionalInterface
+	public interface MethodReference1<T, P1> extends MethodReference {
+		Object invoke(T controller, P1 p1);
+	}
+
+	/**
+	 * A reference to a method with two parameters.
+	 *
+	 * @param <T> the controller type.
+	 */
+	@FunctionalInterface
+	public interface MethodReference2<T, P1, P2> extends MethodReference {
+		Object invoke(T controller, P1 p1, P2 p2);
+	}
+
+	/**
+	 * A reference to a method with three parameters.
+	 *
+	 * @param <T> the controller type.
+	 */
+	@FunctionalInterface
+	public interface MethodReference3<T, P1, P2, P3> extends MethodReference {
+		Object invoke(T controller, P1 p1, P2 p2, P3 p3);
+	}
+
+	/**
+	 * A reference to a method with four parameters.
+	 *
+	 * @param <T> the controller type.
+	 */
+	@FunctionalInterface
+	public interface MethodReference4<T, P1, P2, P3, P4> extends MethodReference {
+		Object invoke(T controller, P1 p1, P2 p2, P3 p3, P4 p4);
+	}
+
+	/**
+	 * Creates a {@link MethodInvocation} for the method the given {@link MethodReference} points to using the given
+	 * arguments.
+	 *
+	 * @param reference must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the given reference is not a method reference but a lambda expression or
+	 *           the number of arguments does not match the method's parameters.
+	 */
+	public static MethodInvocation invocationOf(MethodReference reference, Object... arguments) {
+
+		Assert.notNull(reference, "Method reference must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+
+		ResolvedReference resolved = CACHE.computeIfAbsent(reference.getClass(), key -> resolve(reference));
+		Method method = resolved.getMethod();
+
+		Assert.isTrue(method.getParameterCount() == arguments.length,
+				() -> String.format("Expected %s arguments for method %s but got %s!", method.getParameterCount(), method,
+						arguments.length));
+
+		return new DummyInvocationUtils.SimpleMethodInvocation(resolved.getTargetType(), method, arguments.clone());
+	}
+
+	/**
+	 * Resolves the {@link Method} and target type of the given {@link MethodReference} by inspecting its
+	 * {@link SerializedLambda} form.
+	 *
+	 * @param reference must not be {@literal null}.
+	 * @return
+	 */
+	private static ResolvedReference resolve(MethodReference reference) {
+
+		SerializedLambda lambda = getSerializedLambda(reference);
+		int kind = lambda.getImplMethodKind();
+
+		if (kind != MethodHandleInfo.REF_invokeVirtual && kind != MethodHandleInfo.REF_invokeInterface) {
+			throw new IllegalArgumentException(String.format(
+					"Only unbound references to controller instance methods are supported but got %s#%s! Use a method reference like CustomerController::show instead of a lambda expression.",
+					lambda.getImplClass(), lambda.getImplMethodName()));
+		}
+
+		ClassLoader classLoader = reference.getClass().getClassLoader();
+
+		Class<?> declaringType = loadClass(lambda.getImplClass(), classLoader);
+		Type[] arguments = Type.getArgumentTypes(lambda.getInstantiatedMethodType());
+		Class<?> targetType = loadClass(arguments[0].getClassName(), classLoader);
+
+		Method method = findMethod(declaringType, lambda.getImplMethodName(), lambda.getImplMethodSignature());
+
+		return new ResolvedReference(targetType, method);
+	}
+
+	private static SerializedLambda getSerializedLambda(MethodReference reference) {
+
+		Method writeReplace = ReflectionUtils.findMethod(reference.getClass(), "writeReplace");
+
+		if (writeReplace == null) {
+			throw new IllegalArgumentException(
+					String.format("Given instance of %s is not a serializable method reference!", reference.getClass()));
+		}
+
+		ReflectionUtils.makeAccessible(writeReplace);
+		Object result = ReflectionUtils.invokeMethod(writeReplace, reference);
+
+		if (!SerializedLambda.class.isInstance(result)) {
+			throw new IllegalArgumentException(
+					String.format("Given instance of %s is not a serializable method reference!", reference.getClass()));
+		}
+
+		return (SerializedLambda) result;
+	}
+
+	private static Method findMethod(Class<?> type, String name, String descriptor) {
+
+		for (Method candidate : ReflectionUtils.getUniqueDeclaredMethods(type)) {
+			if (candidate.getName().equals(name) && Type.getMethodDescriptor(candidate).equals(descriptor)) {
+				return candidate;
+			}
+		}
+
+		throw new IllegalStateException(
+				String.format("Could not find method %s with signature %s on %s!", name, descriptor, type));
+	}
+
+	private static Class<?> loadClass(String name, ClassLoader classLoader) {
+
+		try {
+			return ClassUtils.forName(name.replace('/', '.'), classLoader);
+		} catch (ClassNotFoundException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	@Value
+	private static class ResolvedReference {
+
+		Class<?> targetType;
+		Method method;
+	}
+}
@@ -33,6 +33,14 @@ public class HalConfiguration {
 
 	private @Wither @Getter RenderSingleLinks renderSingleLinks = RenderSingleLinks.AS_SINGLE;
 
+	/**
+	 * Whether to cache the titles resolved for link relations, including the ones not configured. Only enable this if the
+	 * {@link org.springframework.context.MessageSource} used for the titles doesn't pick up changes at runtime.
+	 * 
+	 * @since 1.0
+	 */
+	private @Wither @Getter boolean cacheLinkTitles = false;
+
 	public enum RenderSingleLinks {
 
 		/**
@@ -98,6 +98,26 @@ class HalEmbeddedBuilder {
 		embeddeds.put(collectionRel, list);
 	}
 
+	/**
+	 * Wraps the given value into an {@link EmbeddedWrapper}.
+	 * 
+	 * @param source can be {@literal null}.
+	 * @return the {@link EmbeddedWrapper} or {@literal null} if the value would be skipped.
+	 */
+	EmbeddedWrapper wrap(Object source) {
+		return wrappers.wrap(source);
+	}
+
+	/**
+	 * Returns the relation the value of the given {@link EmbeddedWrapper} is rendered under if it's part of a collection.
+	 * 
+	 * @param wrapper must not be {@literal null}.
+	 * @return
+	 */
+	String getCollectionRelFor(EmbeddedWrapper wrapper) {
+		return getDefaultedRelFor(wrapper, true);
+	}
+
 	@SuppressWarnings("unchecked")
 	private Collection<Object> asCollection(Object source) {
 		return source instanceof Collection ? (Collection<Object>) source : source == null ? Collections.emptySet()
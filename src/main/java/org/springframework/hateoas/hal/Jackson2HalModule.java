@@ -19,16 +19,19 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
@@ -36,8 +39,12 @@ import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamingResources;
+import org.springframework.hateoas.core.EmbeddedWrapper;
 import org.springframework.hateoas.hal.HalConfiguration.RenderSingleLinks;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -73,8 +80,8 @@ import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
-import com.fasterxml.jackson.databind.ser.std.MapSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 /**
@@ -87,7 +94,7 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 public class Jackson2HalModule extends SimpleModule {
 
 	private static final long serialVersionUID = 7806951456457932384L;
-	private static final Link CURIES_REQUIRED_DUE_TO_EMBEDS = new Link("__rel__", "¯\\_(ツ)_/¯");
+	private static final Object CURIED_EMBEDS_ATTRIBUTE = Jackson2HalModule.class.getName() + ".CURIED_EMBEDS";
 
 	public Jackson2HalModule() {
 
@@ -96,6 +103,7 @@ public class Jackson2HalModule extends SimpleModule {
 		setMixInAnnotation(Link.class, LinkMixin.class);
 		setMixInAnnotation(ResourceSupport.class, ResourceSupportMixin.class);
 		setMixInAnnotation(Resources.class, ResourcesMixin.class);
+		setMixInAnnotation(StreamingResources.class, StreamingResourcesMixin.class);
 	}
 
 	/**
@@ -110,6 +118,26 @@ public class Jackson2HalModule extends SimpleModule {
 		return LinkMixin.class.equals(mapper.findMixInClassFor(Link.class));
 	}
 
+	/**
+	 * Returns whether the embedded content of the resources rendered during the current serialization uses namespaced
+	 * relations, keyed by resource identity. Allows the embedded content to be mapped only once per resource.
+	 * 
+	 * @param provider must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<Object, Boolean> getCuriedEmbeds(SerializerProvider provider) {
+
+		Map<Object, Boolean> curiedEmbeds = (Map<Object, Boolean>) provider.getAttribute(CURIED_EMBEDS_ATTRIBUTE);
+
+		if (curiedEmbeds == null) {
+			curiedEmbeds = new IdentityHashMap<>();
+			provider.setAttribute(CURIED_EMBEDS_ATTRIBUTE, curiedEmbeds);
+		}
+
+		return curiedEmbeds;
+	}
+
 	/**
 	 * Custom {@link JsonSerializer} to render Link instances in HAL compatible JSON.
 	 * 
@@ -120,13 +148,16 @@ public class Jackson2HalModule extends SimpleModule {
 
 		private static final long serialVersionUID = -1844788111509966406L;
 
-		private static final String RELATION_MESSAGE_TEMPLATE = "_links.%s.title";
+		private static final String RELATION_MESSAGE_PREFIX = "_links.";
+		private static final String RELATION_MESSAGE_SUFFIX = ".title";
 
 		private final BeanProperty property;
 		private final CurieProvider curieProvider;
 		private final EmbeddedMapper mapper;
 		private final MessageSourceAccessor accessor;
 		private final HalConfiguration halConfiguration;
+		private final transient Map<String, String> namespacedRels;
+		private final transient Map<Locale, Map<String, Optional<String>>> titles;
 
 		public HalLinkListSerializer(CurieProvider curieProvider, EmbeddedMapper mapper, MessageSourceAccessor accessor,
 				HalConfiguration halConfiguration) {
@@ -135,6 +166,18 @@ public class Jackson2HalModule extends SimpleModule {
 
 		public HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
 				MessageSourceAccessor accessor, HalConfiguration halConfiguration) {
+			this(property, curieProvider, mapper, accessor, halConfiguration, //
+					curieProvider != null && DefaultCurieProvider.class.equals(curieProvider.getClass()) //
+							? new ConcurrentReferenceHashMap<>() //
+							: null, //
+					halConfiguration != null && halConfiguration.isCacheLinkTitles() //
+							? new ConcurrentReferenceHashMap<>() //
+							: null);
+		}
+
+		private HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
+				MessageSourceAccessor accessor, HalConfiguration halConfiguration, Map<String, String> namespacedRels,
+				Map<Locale, Map<String, Optional<String>>> titles) {
 
 			super(TypeFactory.defaultInstance().constructType(List.class));
 
@@ -143,6 +186,8 @@ public class Jackson2HalModule extends SimpleModule {
 			this.mapper = mapper;
 			this.accessor = accessor;
 			this.halConfiguration = halConfiguration;
+			this.namespacedRels = namespacedRels;
+			this.titles = titles;
 		}
 
 		/**
@@ -160,58 +205,123 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(List<Link> value, JsonGenerator jgen, SerializerProvider provider)
 				throws IOException, JsonGenerationException {
 
-			// sort links according to their relation
-			Map<String, List<Object>> sortedLinks = new LinkedHashMap<>();
-			List<Link> links = new ArrayList<>();
-
 			boolean prefixingRequired = curieProvider != null;
 			boolean curiedLinkPresent = false;
 			boolean skipCuries = !jgen.getOutputContext().getParent().inRoot();
 
 			Object currentValue = jgen.getCurrentValue();
 
-			if (currentValue instanceof Resources) {
-				if (mapper.hasCuriedEmbed((Resources<?>) currentValue)) {
-					curiedLinkPresent = true;
-				}
+			// Reuse the result of rendering the embedded content, streamed content can't be mapped again anyway
+			Boolean curiedEmbeds = currentValue == null ? null : getCuriedEmbeds(provider).remove(currentValue);
+
+			if (curiedEmbeds != null) {
+				curiedLinkPresent = curiedEmbeds;
+			} else if (currentValue instanceof Resources) {
+				curiedLinkPresent = mapper.hasCuriedEmbed((Resources<?>) currentValue);
 			}
 
-			for (Link link : value) {
+			// group links by their relation in the order of first appearance
+			Map<String, List<Link>> sortedLinks = new LinkedHashMap<>();
 
-				if (link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
-					continue;
-				}
+			for (Link link : value) {
 
-				String rel = prefixingRequired ? curieProvider.getNamespacedRelFrom(link) : link.getRel();
+				String rel = prefixingRequired ? getNamespacedRel(link) : link.getRel();
 
 				if (!link.getRel().equals(rel)) {
 					curiedLinkPresent = true;
 				}
 
-				sortedLinks //
-						.computeIfAbsent(rel, key -> new ArrayList<>())//
-						.add(toHalLink(link));
+				sortedLinks.computeIfAbsent(rel, key -> new ArrayList<>(1)).add(link);
+			}
+
+			jgen.writeStartObject();
 
-				links.add(link);
+			for (Map.Entry<String, List<Link>> entry : sortedLinks.entrySet()) {
+
+				jgen.writeFieldName(entry.getKey());
+				writeLinks(entry.getValue(), jgen, provider);
 			}
 
 			if (!skipCuries && prefixingRequired && curiedLinkPresent) {
 
-				ArrayList<Object> curies = new ArrayList<>();
-				curies.add(curieProvider.getCurieInformation(new Links(links)));
+				jgen.writeFieldName("curies");
+				writeCuries(curieProvider.getCurieInformation(new Links(value)), jgen, provider);
+			}
+
+			jgen.writeEndObject();
+		}
+
+		/**
+		 * Writes the given {@link Link}s sharing the same relation either as single object or as array depending on the
+		 * {@link HalConfiguration}.
+		 * 
+		 * @param links must not be {@literal null} or empty.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void writeLinks(List<Link> links, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			if (links.size() == 1 && halConfiguration.getRenderSingleLinks() == RenderSingleLinks.AS_SINGLE) {
+				writeLink(links.get(0), jgen, provider);
+				return;
+			}
+
+			jgen.writeStartArray();
+
+			for (Link link : links) {
+				writeLink(link, jgen, provider);
+			}
+
+			jgen.writeEndArray();
+		}
+
+		/**
+		 * Writes the given {@link Link}. Only links with a title resolved from the {@link MessageSourceAccessor} need to be
+		 * wrapped into a {@link HalLink}, all others are handed to the (cached) serializer for the link type directly.
+		 * 
+		 * @param link must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void writeLink(Link link, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			HalLink halLink = toHalLink(link);
+			Object toWrite = halLink.getTitle() == null ? link : halLink;
 
-				sortedLinks.put("curies", curies);
+			provider.findValueSerializer(toWrite.getClass(), property).serialize(toWrite, jgen, provider);
+		}
+
+		private void writeCuries(Collection<?> curies, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			JsonSerializer<Object> serializer = provider.findValueSerializer(curies.getClass(), property);
+
+			// Curie information is rendered as a single element collection
+			if (halConfiguration.getRenderSingleLinks() == RenderSingleLinks.AS_SINGLE) {
+				serializer.serialize(curies, jgen, provider);
+				return;
 			}
 
-			TypeFactory typeFactory = provider.getConfig().getTypeFactory();
-			JavaType keyType = typeFactory.constructType(String.class);
-			JavaType valueType = typeFactory.constructCollectionType(ArrayList.class, Object.class);
-			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
+			jgen.writeStartArray();
+			serializer.serialize(curies, jgen, provider);
+			jgen.writeEndArray();
+		}
 
-			MapSerializer serializer = MapSerializer.construct(Collections.<String> emptySet(), mapType, true, null,
-					provider.findKeySerializer(keyType, null), new OptionalListJackson2Serializer(property, halConfiguration), null);
+		/**
+		 * Returns the relation the given {@link Link} is rendered under, potentially prefixed by the {@link CurieProvider}.
+		 * The result is only cached per relation for the {@link DefaultCurieProvider}, as custom implementations might
+		 * consider other parts of the {@link Link}.
+		 * 
+		 * @param link must not be {@literal null}.
+		 * @return
+		 */
+		private String getNamespacedRel(Link link) {
 
-			serializer.serialize(sortedLinks, jgen, provider);
+			return namespacedRels == null //
+					? curieProvider.getNamespacedRelFrom(link) //
+					: namespacedRels.computeIfAbsent(link.getRel(), it -> curieProvider.getNamespacedRelFrom(link));
 		}
 
 		/**
@@ -221,33 +331,58 @@ public class Jackson2HalModule extends SimpleModule {
 		 * @return
 		 */
 		private HalLink toHalLink(Link link) {
+			return new HalLink(link, getTitle(link.getRel()));
+		}
 
-			String rel = link.getRel();
-			String title = getTitle(rel);
+		/**
+		 * Returns the title for the given link relation, falling back to the title of its local part for curied relations.
+		 * If enabled via {@link HalConfiguration#withCacheLinkTitles(boolean)}, titles are cached per relation and
+		 * {@link Locale} including the ones not configured.
+		 * 
+		 * @param rel must not be {@literal null} or empty.
+		 * @return
+		 */
+		private String getTitle(String rel) {
+
+			if (accessor == null) {
+				return null;
+			}
 
-			if (title == null) {
-				title = getTitle(rel.contains(":") ? rel.substring(rel.indexOf(":") + 1) : rel);
+			if (titles == null) {
+				return lookupTitle(rel);
 			}
 
-			return new HalLink(link, title);
+			// The accessor's default locale is the current one unless it was configured with a fixed one
+			return titles //
+					.computeIfAbsent(LocaleContextHolder.getLocale(), it -> new ConcurrentReferenceHashMap<>()) //
+					.computeIfAbsent(rel, it -> Optional.ofNullable(lookupTitle(it))) //
+					.orElse(null);
+		}
+
+		private String lookupTitle(String rel) {
+
+			String title = resolveTitle(rel);
+
+			return title != null || !rel.contains(":") //
+					? title //
+					: resolveTitle(rel.substring(rel.indexOf(":") + 1));
 		}
 
 		/**
 		 * Returns the title for the given local link relation resolved through the configured {@link MessageSourceAccessor}
-		 * .
+		 * and its default {@link Locale}. Uses a {@literal null} default message so that missing titles don't cause a
+		 * {@link NoSuchMessageException}.
 		 * 
 		 * @param localRel must not be {@literal null} or empty.
 		 * @return
 		 */
-		private String getTitle(String localRel) {
+		private String resolveTitle(String localRel) {
 
 			Assert.hasText(localRel, "Local relation must not be null or empty!");
 
-			try {
-				return accessor == null ? null : accessor.getMessage(String.format(RELATION_MESSAGE_TEMPLATE, localRel));
-			} catch (NoSuchMessageException o_O) {
-				return null;
-			}
+			String title = accessor.getMessage(RELATION_MESSAGE_PREFIX + localRel + RELATION_MESSAGE_SUFFIX, (String) null);
+
+			return StringUtils.hasText(title) ? title : null;
 		}
 
 		/*
@@ -257,7 +392,8 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
 				throws JsonMappingException {
-			return new HalLinkListSerializer(property, curieProvider, mapper, accessor, halConfiguration);
+			return new HalLinkListSerializer(property, curieProvider, mapper, accessor, halConfiguration, namespacedRels,
+					titles);
 		}
 
 		/*
@@ -341,15 +477,12 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(Collection<?> value, JsonGenerator jgen, SerializerProvider provider)
 				throws IOException, JsonGenerationException {
 
-			Map<String, Object> embeddeds = embeddedMapper.map(value);
-
 			Object currentValue = jgen.getCurrentValue();
+			Map<String, Object> embeddeds = embeddedMapper.map(value);
 
+			// Keep track of curied relations for the links of the resource to be rendered afterwards
 			if (currentValue instanceof ResourceSupport) {
-
-				if (embeddedMapper.hasCuriedEmbed(value)) {
-					((ResourceSupport) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
-				}
+				getCuriedEmbeds(provider).put(currentValue, EmbeddedMapper.hasCuriedRel(embeddeds));
 			}
 
 			provider.findValueSerializer(Map.class, property).serialize(embeddeds, jgen, provider);
@@ -386,6 +519,155 @@ public class Jackson2HalModule extends SimpleModule {
 		}
 	}
 
+	/**
+	 * Custom {@link JsonSerializer} to render {@link StreamingResources} in HAL compatible JSON. Writes the elements into
+	 * {@literal _embedded} while they're pulled from the source and closes the {@link StreamingResources} in any case.
+	 *
+	 * @since 1.0
+	 */
+	public static class HalStreamingResourcesSerializer extends StdSerializer<StreamingResources<?>> {
+
+		private static final long serialVersionUID = -3416539458233395466L;
+
+		private final EmbeddedMapper embeddedMapper;
+		private final HalLinkListSerializer linkSerializer;
+
+		public HalStreamingResourcesSerializer(EmbeddedMapper embeddedMapper, HalLinkListSerializer linkSerializer) {
+
+			super(StreamingResources.class, false);
+
+			this.embeddedMapper = embeddedMapper;
+			this.linkSerializer = linkSerializer;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.std.StdSerializer#serialize(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void serialize(StreamingResources<?> value, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			try {
+
+				jgen.writeStartObject(value);
+
+				if (value.peek().isPresent()) {
+
+					jgen.writeFieldName("_embedded");
+
+					// Keep track of curied relations for the links to be rendered afterwards
+					getCuriedEmbeds(provider).put(value, serializeEmbedded(value.iterator(), jgen, provider));
+				}
+
+				if (!value.getLinks().isEmpty()) {
+
+					jgen.writeFieldName("_links");
+					linkSerializer.serialize(value.getLinks(), jgen, provider);
+				}
+
+				jgen.writeEndObject();
+
+			} finally {
+				value.close();
+			}
+		}
+
+		/**
+		 * Renders the one-shot content as {@literal _embedded} without materializing it. Elements are written as
+		 * they're pulled from the source as long as they share the collection relation of the first two elements. Elements
+		 * with other relations are collected and written afterwards. If there are fewer than two elements or the first two
+		 * differ in their relation, we fall back to the regular mapping.
+		 * 
+		 * @param source must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @return whether any of the relations rendered is curied.
+		 * @throws IOException
+		 */
+		private boolean serializeEmbedded(Iterator<?> source, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			HalEmbeddedBuilder builder = embeddedMapper.createBuilder();
+			List<EmbeddedWrapper> head = new ArrayList<>(2);
+
+			while (head.size() < 2 && source.hasNext()) {
+
+				EmbeddedWrapper wrapper = builder.wrap(source.next());
+
+				if (wrapper != null) {
+					head.add(wrapper);
+				}
+			}
+
+			String rel = head.size() < 2 ? null : builder.getCollectionRelFor(head.get(0));
+
+			if (rel == null || !rel.equals(builder.getCollectionRelFor(head.get(1)))) {
+
+				head.forEach(builder::add);
+				source.forEachRemaining(builder::add);
+
+				Map<String, Object> embeddeds = builder.asMap();
+				provider.findValueSerializer(Map.class, null).serialize(embeddeds, jgen, provider);
+
+				return EmbeddedMapper.hasCuriedRel(embeddeds);
+			}
+
+			boolean curied = rel.contains(":");
+
+			jgen.writeStartObject();
+			jgen.writeArrayFieldStart(rel);
+
+			for (EmbeddedWrapper wrapper : head) {
+				writeValue(wrapper, jgen, provider);
+			}
+
+			while (source.hasNext()) {
+
+				EmbeddedWrapper wrapper = builder.wrap(source.next());
+
+				if (wrapper == null) {
+					continue;
+				}
+
+				if (rel.equals(builder.getCollectionRelFor(wrapper))) {
+					writeValue(wrapper, jgen, provider);
+				} else {
+					builder.add(wrapper);
+				}
+			}
+
+			jgen.writeEndArray();
+
+			for (Map.Entry<String, Object> entry : builder.asMap().entrySet()) {
+
+				jgen.writeFieldName(entry.getKey());
+				provider.defaultSerializeValue(entry.getValue(), jgen);
+
+				curied |= entry.getKey().contains(":");
+			}
+
+			jgen.writeEndObject();
+
+			return curied;
+		}
+
+		private static void writeValue(EmbeddedWrapper wrapper, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
+
+			Object value = wrapper.getValue();
+
+			if (!wrapper.isCollectionValue()) {
+				provider.defaultSerializeValue(value, jgen);
+				return;
+			}
+
+			for (Object element : (Collection<?>) value) {
+				provider.defaultSerializeValue(element, jgen);
+			}
+		}
+	}
+
 	/**
 	 * Custom {@link JsonSerializer} to render Link instances in HAL compatible JSON. Renders the {@link Link} as
 	 * immediate object if we have a single one or as array if we have multiple ones.
@@ -730,9 +1012,13 @@ public class Jackson2HalModule extends SimpleModule {
 
 			this.delegate = delegate;
 
+			HalLinkListSerializer linkSerializer = new HalLinkListSerializer(curieProvider, mapper, accessor,
+					halConfiguration);
+
 			this.serializers.put(HalResourcesSerializer.class, new HalResourcesSerializer(mapper));
-			this.serializers.put(HalLinkListSerializer.class,
-					new HalLinkListSerializer(curieProvider, mapper, accessor, halConfiguration));
+			this.serializers.put(HalLinkListSerializer.class, linkSerializer);
+			this.serializers.put(HalStreamingResourcesSerializer.class,
+					new HalStreamingResourcesSerializer(mapper, linkSerializer));
 		}
 
 		/*
@@ -883,7 +1169,7 @@ public class Jackson2HalModule extends SimpleModule {
 
 			Assert.notNull(source, "Elements must not be null!");
 
-			HalEmbeddedBuilder builder = new HalEmbeddedBuilder(relProvider, curieProvider, preferCollectionRels);
+			HalEmbeddedBuilder builder = createBuilder();
 
 			for (Object resource : source) {
 				builder.add(resource);
@@ -899,10 +1185,24 @@ public class Jackson2HalModule extends SimpleModule {
 		 * @return
 		 */
 		public boolean hasCuriedEmbed(Iterable<?> source) {
+			return hasCuriedRel(map(source));
+		}
+
+		/**
+		 * Returns whether any of the relations of the given embeddeds (see {@link #map(Iterable)}) is namespaced.
+		 * 
+		 * @param embeddeds must not be {@literal null}.
+		 * @return
+		 */
+		static boolean hasCuriedRel(Map<String, Object> embeddeds) {
 
-			return map(source).keySet().stream() //
+			return embeddeds.keySet().stream() //
 					.anyMatch(rel -> rel.contains(":"));
 		}
+
+		HalEmbeddedBuilder createBuilder() {
+			return new HalEmbeddedBuilder(relProvider, curieProvider, preferCollectionRels);
+		}
 	}
 
 	static class HalLink {
@@ -17,16 +17,26 @@ package org.springframework.hateoas.mvc;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.NumberFormat;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.hateoas.core.AnnotationAttribute;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
@@ -60,23 +70,61 @@ class AnnotatedParametersParameterAccessor {
 
 		Assert.notNull(invocation, "MethodInvocation must not be null!");
 
-		MethodParameters parameters = getOrCreateMethodParametersFor(invocation.getMethod());
 		Object[] arguments = invocation.getArguments();
 		List<BoundMethodParameter> result = new ArrayList<>();
 
-		for (MethodParameter parameter : parameters.getParametersWith(attribute.getAnnotationType())) {
+		for (MethodParameter parameter : getAnnotatedParameters(invocation.getMethod())) {
 
-			Object value = arguments[parameter.getParameterIndex()];
-			Object verifiedValue = verifyParameterValue(parameter, value);
+			BoundMethodParameter bound = bind(parameter, arguments);
 
-			if (verifiedValue != null) {
-				result.add(createParameter(parameter, verifiedValue, attribute));
+			if (bound != null) {
+				result.add(bound);
 			}
 		}
 
 		return result;
 	}
 
+	/**
+	 * Returns all {@link MethodParameter}s of the given {@link Method} carrying the configured annotation.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	List<MethodParameter> getAnnotatedParameters(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return getOrCreateMethodParametersFor(method).getParametersWith(attribute.getAnnotationType());
+	}
+
+	/**
+	 * Binds the argument for the given {@link MethodParameter} from the given invocation arguments.
+	 * 
+	 * @param parameter must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return the {@link BoundMethodParameter} or {@literal null} if the value was rejected by
+	 *         {@link #verifyParameterValue(MethodParameter, Object)}.
+	 */
+	BoundMethodParameter bind(MethodParameter parameter, Object[] arguments) {
+
+		Object value = arguments[parameter.getParameterIndex()];
+		Object verifiedValue = verifyParameterValue(parameter, value);
+
+		return verifiedValue == null ? null : createParameter(parameter, verifiedValue, attribute);
+	}
+
+	/**
+	 * Returns an unbound {@link BoundMethodParameter} for the given {@link MethodParameter} to inspect the value
+	 * independent metadata like the variable name and whether the parameter is required.
+	 * 
+	 * @param parameter must not be {@literal null}.
+	 * @return
+	 */
+	BoundMethodParameter describe(MethodParameter parameter) {
+		return createParameter(parameter, null, attribute);
+	}
+
 	/**
 	 * Create the {@link BoundMethodParameter} for the given {@link MethodParameter}, parameter value and
 	 * {@link AnnotationAttribute}.
@@ -122,11 +170,10 @@ class AnnotatedParametersParameterAccessor {
 
 		private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
 		private static final TypeDescriptor STRING_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
+		private static final Map<ParameterKey, ParameterMetadata> METADATA_CACHE = new ConcurrentReferenceHashMap<>();
 
-		private final MethodParameter parameter;
 		private final Object value;
-		private final AnnotationAttribute attribute;
-		private final TypeDescriptor parameterTypeDescriptor;
+		private final ParameterMetadata metadata;
 
 		/**
 		 * Creates a new {@link BoundMethodParameter}
@@ -139,10 +186,8 @@ class AnnotatedParametersParameterAccessor {
 
 			Assert.notNull(parameter, "MethodParameter must not be null!");
 
-			this.parameter = parameter;
 			this.value = value;
-			this.attribute = attribute;
-			this.parameterTypeDescriptor = TypeDescriptor.nested(parameter, parameter.isOptional() ? 1 : 0);
+			this.metadata = METADATA_CACHE.computeIfAbsent(new ParameterKey(parameter, attribute), ParameterMetadata::of);
 		}
 
 		/**
@@ -152,15 +197,7 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public String getVariableName() {
-
-			if (attribute == null) {
-				return parameter.getParameterName();
-			}
-
-			Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
-			String annotationAttributeValue = attribute.getValueFrom(annotation);
-
-			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
+			return metadata.getVariableName();
 		}
 
 		/**
@@ -179,9 +216,15 @@ class AnnotatedParametersParameterAccessor {
 		 */
 		public String asString() {
 
-			return value == null //
-					? null //
-					: (String) CONVERSION_SERVICE.convert(value, parameterTypeDescriptor, STRING_DESCRIPTOR);
+			if (value == null) {
+				return null;
+			}
+
+			Function<Object, String> converter = metadata.getConverterFor(value);
+
+			return converter == null //
+					? (String) CONVERSION_SERVICE.convert(value, metadata.getTypeDescriptor(), STRING_DESCRIPTOR) //
+					: converter.apply(value);
 		}
 
 		/**
@@ -193,4 +236,81 @@ class AnnotatedParametersParameterAccessor {
 			return true;
 		}
 	}
+
+	@Value
+	private static class ParameterKey {
+
+		MethodParameter parameter;
+		AnnotationAttribute attribute;
+	}
+
+	/**
+	 * The value independent metadata of a {@link MethodParameter}, i.e. the name of the variable it's bound to, its
+	 * {@link TypeDescriptor} and whether values can be turned into {@link String}s directly for common identifier types
+	 * instead of having to go through the {@link ConversionService}.
+	 */
+	@Value
+	private static class ParameterMetadata {
+
+		private static final Map<Class<?>, Function<Object, String>> DIRECT_CONVERTERS;
+		private static final Function<Object, String> ENUM_CONVERTER = value -> ((Enum<?>) value).name();
+		private static final List<Class<? extends Annotation>> FORMATTING_ANNOTATIONS = Arrays.asList(NumberFormat.class,
+				DateTimeFormat.class);
+
+		static {
+
+			Map<Class<?>, Function<Object, String>> converters = new HashMap<>();
+
+			converters.put(String.class, String.class::cast);
+
+			for (Class<?> type : Arrays.asList(Boolean.class, Character.class, Byte.class, Short.class, Integer.class,
+					Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class)) {
+				converters.put(type, Object::toString);
+			}
+
+			DIRECT_CONVERTERS = Collections.unmodifiableMap(converters);
+		}
+
+		String variableName;
+		TypeDescriptor typeDescriptor;
+		boolean directlyConvertible;
+
+		static ParameterMetadata of(ParameterKey key) {
+
+			MethodParameter parameter = key.getParameter();
+			TypeDescriptor descriptor = TypeDescriptor.nested(parameter, parameter.isOptional() ? 1 : 0);
+
+			return new ParameterMetadata(getVariableName(parameter, key.getAttribute()), descriptor,
+					FORMATTING_ANNOTATIONS.stream().noneMatch(descriptor::hasAnnotation));
+		}
+
+		/**
+		 * Returns the converter to turn the given value into a {@link String} directly or {@literal null} in case the
+		 * conversion has to be handled by the {@link ConversionService}, e.g. as the parameter carries formatting
+		 * annotations.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return
+		 */
+		Function<Object, String> getConverterFor(Object value) {
+
+			if (!directlyConvertible) {
+				return null;
+			}
+
+			return value instanceof Enum ? ENUM_CONVERTER : DIRECT_CONVERTERS.get(value.getClass());
+		}
+
+		private static String getVariableName(MethodParameter parameter, AnnotationAttribute attribute) {
+
+			if (attribute == null) {
+				return parameter.getParameterName();
+			}
+
+			Annotation annotation = parameter.getParameterAnnotation(attribute.getAnnotationType());
+			String annotationAttributeValue = attribute.getValueFrom(annotation);
+
+			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
+		}
+	}
 }
@@ -17,14 +17,16 @@ package org.springframework.hateoas.mvc;
 
 import static org.springframework.hateoas.mvc.ForwardedHeader.*;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.experimental.Delegate;
 
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -35,10 +37,16 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.core.AffordanceModelFactory;
 import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.CachingMappingDiscoverer;
 import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
-import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.core.MethodReferences;
+import org.springframework.hateoas.core.MethodReferences.MethodReference0;
+import org.springframework.hateoas.core.MethodReferences.MethodReference1;
+import org.springframework.hateoas.core.MethodReferences.MethodReference2;
+import org.springframework.hateoas.core.MethodReferences.MethodReference3;
+import org.springframework.hateoas.core.MethodReferences.MethodReference4;
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
@@ -68,11 +76,15 @@ import org.springframework.web.util.UriTemplate;
 public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuilder> {
 
 	private static final String REQUEST_ATTRIBUTES_MISSING = "Could not find current request via RequestContextHolder. Is this being called from a Spring MVC handler?";
-	private static final CachingAnnotationMappingDiscoverer DISCOVERER = new CachingAnnotationMappingDiscoverer(
+	static final CachingMappingDiscoverer DISCOVERER = new CachingMappingDiscoverer(
 			new AnnotationMappingDiscoverer(RequestMapping.class));
-	private static final ControllerLinkBuilderFactory FACTORY = new ControllerLinkBuilderFactory();
+	private static final Map<String, UriTemplate> TEMPLATES = new ConcurrentReferenceHashMap<>();
+	private static final Map<Class<?>, UriComponents> CONTROLLER_MAPPINGS = new ConcurrentReferenceHashMap<>();
+	static final ControllerLinkBuilderFactory FACTORY = new ControllerLinkBuilderFactory();
 	private static final CustomUriTemplateHandler HANDLER = new CustomUriTemplateHandler();
 	private static final SpringMvcAffordanceBuilder AFFORDANCE_BUILDER;
+	private static final String BASE_URI_ATTRIBUTE = ControllerLinkBuilder.class.getName() + ".BASE_URI";
+	private static final boolean SPRING_AT_LEAST_5_1 = isSpringAtLeast5_1();
 
 	static {
 
@@ -115,6 +127,18 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		this.addAffordances(findAffordances(invocation, uriComponents));
 	}
 
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} pointing to the same URI as the given one.
+	 *
+	 * @param source must not be {@literal null}.
+	 */
+	private ControllerLinkBuilder(ControllerLinkBuilder source) {
+
+		super(source);
+
+		this.variables = source.variables;
+	}
+
 	/**
 	 * Creates a new {@link ControllerLinkBuilder} with a base of the mapping annotated to the given controller class.
 	 * 
@@ -136,15 +160,36 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 	 */
 	public static ControllerLinkBuilder linkTo(Class<?> controller, Object... parameters) {
 
-		Assert.notNull(controller, "Controller must not be null!");
 		Assert.notNull(parameters, "Parameters must not be null!");
 
-		String mapping = DISCOVERER.getMapping(controller);
+		BaseUri baseUri = parameters.length == 0 ? getCurrentBaseUri() : null;
 
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(mapping == null ? "/" : mapping);
-		UriComponents uriComponents = HANDLER.expandAndEncode(builder, parameters);
+		return baseUri != null //
+				? baseUri.linkTo(controller) //
+				: linkTo(getBuilder(), controller, parameters);
+	}
 
-		return new ControllerLinkBuilder(getBuilder()).slash(uriComponents, true);
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} with a base of the mapping annotated to the given controller class
+	 * below the given base.
+	 *
+	 * @param base must not be {@literal null}.
+	 * @param controller the class to discover the annotation on, must not be {@literal null}.
+	 * @param parameters additional parameters to bind to the URI template declared in the annotation, must not be
+	 *          {@literal null}.
+	 * @return
+	 */
+	static ControllerLinkBuilder linkTo(UriComponentsBuilder base, Class<?> controller, Object... parameters) {
+
+		Assert.notNull(controller, "Controller must not be null!");
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		// Without parameters the expanded and encoded mapping only depends on the controller
+		UriComponents uriComponents = parameters.length == 0 //
+				? CONTROLLER_MAPPINGS.computeIfAbsent(controller, it -> expandMapping(it, parameters)) //
+				: expandMapping(controller, parameters);
+
+		return new ControllerLinkBuilder(base).slash(uriComponents, true);
 	}
 
 	/**
@@ -169,6 +214,20 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return new ControllerLinkBuilder(getBuilder()).slash(uriComponents, true);
 	}
 
+	/**
+	 * Creates self {@link Link}s pointing to the single resources identified by the given ids below the mapping
+	 * annotated to the given controller class. The controller mapping and base URI are only resolved once for all ids.
+	 *
+	 * @param controller the class to discover the annotation on, must not be {@literal null}.
+	 * @param ids the identifiers of the resources, {@link org.springframework.hateoas.Identifiable}s will be unwrapped.
+	 *          Must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	public static List<Link> linkToSingleResources(Class<?> controller, Iterable<?> ids) {
+		return linkTo(controller).slashAll(ids, Link.REL_SELF);
+	}
+
 	/*
 	 * @see org.springframework.hateoas.MethodLinkBuilderFactory#linkTo(Method, Object...)
 	 */
@@ -180,14 +239,19 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 	 * @see org.springframework.hateoas.MethodLinkBuilderFactory#linkTo(Class<?>, Method, Object...)
 	 */
 	public static ControllerLinkBuilder linkTo(Class<?> controller, Method method, Object... parameters) {
+		return linkTo(getBuilder(), controller, method, parameters);
+	}
+
+	static ControllerLinkBuilder linkTo(UriComponentsBuilder base, Class<?> controller, Method method,
+			Object... parameters) {
 
 		Assert.notNull(controller, "Controller type must not be null!");
 		Assert.notNull(method, "Method must not be null!");
 
-		UriTemplate template = DISCOVERER.getMappingAsUriTemplate(controller, method);
+		UriTemplate template = TEMPLATES.computeIfAbsent(DISCOVERER.getMapping(controller, method), UriTemplate::new);
 		URI uri = template.expand(parameters);
 
-		return new ControllerLinkBuilder(getBuilder()).slash(uri);
+		return new ControllerLinkBuilder(base).slash(uri);
 	}
 
 	/**
@@ -216,6 +280,126 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return FACTORY.linkTo(invocationValue);
 	}
 
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} from the given {@link UriComponentsBuilder} that is expected to contain
+	 * already expanded and encoded URI components, usually obtained by extending {@link #getBuilder()}. Primarily used
+	 * by the link factories generated by {@link org.springframework.hateoas.mvc.apt.LinkMetamodelProcessor}.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @return
+	 */
+	public static ControllerLinkBuilder of(UriComponentsBuilder builder) {
+
+		Assert.notNull(builder, "UriComponentsBuilder must not be null!");
+
+		return new ControllerLinkBuilder(builder);
+	}
+
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} from the given {@link UriComponentsBuilder} like
+	 * {@link #of(UriComponentsBuilder)} does, exposing the given optional request parameters that weren't bound to a
+	 * value as template variables, just like {@link #linkTo(Object)} does.
+	 * 
+	 * @param builder must not be {@literal null}.
+	 * @param optionalParameters the names of the unbound optional request parameters, must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public static ControllerLinkBuilder of(UriComponentsBuilder builder, Collection<String> optionalParameters) {
+
+		Assert.notNull(builder, "UriComponentsBuilder must not be null!");
+		Assert.notNull(optionalParameters, "Optional parameters must not be null!");
+
+		UriComponents components = builder.build();
+
+		return new ControllerLinkBuilder(components,
+				ControllerLinkBuilderFactory.getOptionalParameterVariables(components, optionalParameters), null);
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method the given method reference points to.
+	 * Other than {@link #linkTo(Object)} this doesn't require any proxies to be created and thus also works for
+	 * controller methods with final return types.
+	 * 
+	 * <pre>
+	 * Link link = linkTo(CustomerController::showAddresses, 2L).withRel("addresses");
+	 * </pre>
+	 * 
+	 * The given method reference has to be an unbound reference to a controller instance method. The resolved
+	 * {@link Method} is cached per method reference class.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 * @see MethodReferences
+	 */
+	public static <T> ControllerLinkBuilder linkTo(MethodReference0<T> method) {
+		return linkToInvocation(MethodReferences.invocationOf(method));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method the given method reference points to
+	 * using the given argument.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param p1 the argument to bind.
+	 * @return
+	 * @see #linkTo(MethodReference0)
+	 */
+	public static <T, P1> ControllerLinkBuilder linkTo(MethodReference1<T, P1> method, P1 p1) {
+		return linkToInvocation(MethodReferences.invocationOf(method, p1));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method the given method reference points to
+	 * using the given arguments.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param p1 the first argument to bind.
+	 * @param p2 the second argument to bind.
+	 * @return
+	 * @see #linkTo(MethodReference0)
+	 */
+	public static <T, P1, P2> ControllerLinkBuilder linkTo(MethodReference2<T, P1, P2> method, P1 p1, P2 p2) {
+		return linkToInvocation(MethodReferences.invocationOf(method, p1, p2));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method the given method reference points to
+	 * using the given arguments.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param p1 the first argument to bind.
+	 * @param p2 the second argument to bind.
+	 * @param p3 the third argument to bind.
+	 * @return
+	 * @see #linkTo(MethodReference0)
+	 */
+	public static <T, P1, P2, P3> ControllerLinkBuilder linkTo(MethodReference3<T, P1, P2, P3> method, P1 p1, P2 p2,
+			P3 p3) {
+		return linkToInvocation(MethodReferences.invocationOf(method, p1, p2, p3));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to the controller method the given method reference points to
+	 * using the given arguments.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param p1 the first argument to bind.
+	 * @param p2 the second argument to bind.
+	 * @param p3 the third argument to bind.
+	 * @param p4 the fourth argument to bind.
+	 * @return
+	 * @see #linkTo(MethodReference0)
+	 */
+	public static <T, P1, P2, P3, P4> ControllerLinkBuilder linkTo(MethodReference4<T, P1, P2, P3, P4> method, P1 p1,
+			P2 p2, P3 p3, P4 p4) {
+		return linkToInvocation(MethodReferences.invocationOf(method, p1, p2, p3, p4));
+	}
+
+	private static ControllerLinkBuilder linkToInvocation(MethodInvocation invocation) {
+		return FACTORY.linkTo(invocation, Collections.emptyIterator());
+	}
+
 	/**
 	 * Extract a {@link Link} from the {@link ControllerLinkBuilder} and look up the related {@link Affordance}. Should
 	 * only be one.
@@ -251,6 +435,18 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return DummyInvocationUtils.methodOn(controller, parameters);
 	}
 
+	/**
+	 * Wrapper for {@link DummyInvocationUtils#reusableMethodOn(Class, Object...)} to be available in case you work with
+	 * static imports of {@link ControllerLinkBuilder}.
+	 * 
+	 * @param controller must not be {@literal null}.
+	 * @param parameters parameters to extend template variables in the type level mapping.
+	 * @return
+	 */
+	public static <T> T reusableMethodOn(Class<T> controller, Object... parameters) {
+		return DummyInvocationUtils.reusableMethodOn(controller, parameters);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.UriComponentsLinkBuilder#getThis()
@@ -302,26 +498,73 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 	/**
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with scheme tweaked in case the
 	 * request contains an {@code X-Forwarded-Ssl} header, which is not (yet) supported by the underlying
-	 * {@link UriComponentsBuilder}. If no {@link RequestContextHolder} exists (you're outside a Spring Web call), fall
-	 * back to relative URIs.
+	 * {@link UriComponentsBuilder}. A {@link LinkContext} bound to the current thread takes precedence. If no
+	 * {@link RequestContextHolder} exists (you're outside a Spring Web call), fall back to relative URIs.
 	 * 
 	 * @return
+	 * @see LinkContext#run(Runnable)
 	 */
 	public static UriComponentsBuilder getBuilder() {
 
+		LinkContext context = LinkContext.getBound();
+
+		if (context != null) {
+			return context.getBuilder();
+		}
+
 		if (RequestContextHolder.getRequestAttributes() == null) {
 			return UriComponentsBuilder.fromPath("/");
 		}
 
 		HttpServletRequest request = getCurrentRequest();
+
+		return UriComponentsBuilder.newInstance().uriComponents(getBaseUri(request).getComponents());
+	}
+
+	/**
+	 * Returns the {@link BaseUri} of the current request or {@literal null} if links are built outside of a Spring MVC
+	 * request or a {@link LinkContext} is bound to the current thread.
+	 * 
+	 * @return
+	 */
+	private static BaseUri getCurrentBaseUri() {
+
+		if (LinkContext.getBound() != null || RequestContextHolder.getRequestAttributes() == null) {
+			return null;
+		}
+
+		return getBaseUri(getCurrentRequest());
+	}
+
+	/**
+	 * Returns the base URI for the given {@link HttpServletRequest}. As it only depends on the servlet mapping and the
+	 * request headers, it's calculated once and kept as request attribute so that all links built while processing the
+	 * request can be derived from it.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	private static BaseUri getBaseUri(HttpServletRequest request) {
+
+		Object candidate = request.getAttribute(BASE_URI_ATTRIBUTE);
+
+		// The attribute might have been set for a request that has been wrapped since
+		if (candidate instanceof BaseUri && ((BaseUri) candidate).getRequest() == request) {
+			return (BaseUri) candidate;
+		}
+
 		ServletUriComponentsBuilder builder = ServletUriComponentsBuilder.fromServletMapping(request);
 
 		// Spring 5.1 can handle X-Forwarded-Ssl headers...
-		if (isSpringAtLeast5_1()) {
-			return builder;
-		} else {
-			return handleXForwardedSslHeader(request, builder);
-		}
+		UriComponents components = SPRING_AT_LEAST_5_1 //
+				? builder.build() //
+				: handleXForwardedSslHeader(request, builder).build();
+
+		BaseUri baseUri = new BaseUri(request, components);
+
+		request.setAttribute(BASE_URI_ATTRIBUTE, baseUri);
+
+		return baseUri;
 	}
 
 	/**
@@ -333,6 +576,11 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 
 		String versionOfSpringFramework = ApplicationContext.class.getPackage().getImplementationVersion();
 
+		// Unknown version, e.g. when running from an unpackaged build, handle the headers ourselves
+		if (versionOfSpringFramework == null) {
+			return false;
+		}
+
 		String[] parts = versionOfSpringFramework.split("\\.");
 		int majorVersion = Integer.parseInt(parts[0]);
 		int minorVersion = Integer.parseInt(parts[1]);
@@ -356,6 +604,31 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return servletRequest;
 	}
 
+	/**
+	 * Returns the {@link CachingMappingDiscoverer} shared by all link building infrastructure for Spring MVC controllers,
+	 * e.g. to inspect its cache statistics.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static CachingMappingDiscoverer getMappingDiscoverer() {
+		return DISCOVERER;
+	}
+
+	/**
+	 * Expands and encodes the mapping of the given controller using the given parameters.
+	 *
+	 * @param controller must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	private static UriComponents expandMapping(Class<?> controller, Object[] parameters) {
+
+		String mapping = DISCOVERER.getMapping(controller);
+
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(mapping == null ? "/" : mapping);
+		return HANDLER.expandAndEncode(builder, parameters);
+	}
+
 	/**
 	 * Look up {@link Affordance}s and {@link org.springframework.hateoas.AffordanceModel}s based on the
 	 * {@link MethodInvocation} and {@link UriComponents}.
@@ -368,17 +641,47 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return AFFORDANCE_BUILDER.create(invocation, DISCOVERER, components);
 	}
 
-	@RequiredArgsConstructor
-	private static class CachingAnnotationMappingDiscoverer implements MappingDiscoverer {
+	/**
+	 * Eagerly populates the caches used to build links pointing to the given handler method invoked on the given type,
+	 * i.e. the invocation recording proxies, the mapping lookups, the {@link MethodLinkPlan} and the method specific
+	 * parts of the affordances.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 */
+	static void warmUp(Class<?> type, Method method) {
 
-		private final @Delegate AnnotationMappingDiscoverer delegate;
-		private final Map<String, UriTemplate> templates = new ConcurrentReferenceHashMap<>();
+		DummyInvocationUtils.prepareProxy(type);
+		DummyInvocationUtils.prepareProxy(method.getReturnType());
+
+		FACTORY.getPlan(type, method);
+		AFFORDANCE_BUILDER.warmUp(method, DISCOVERER.getRequestMethod(type, method));
+	}
 
-		public UriTemplate getMappingAsUriTemplate(Class<?> type, Method method) {
+	/**
+	 * The base URI calculated for a particular {@link HttpServletRequest} alongside the links to the controllers pointed
+	 * to while processing the request.
+	 */
+	@RequiredArgsConstructor
+	private static class BaseUri {
+
+		private final @Getter HttpServletRequest request;
+		private final @Getter UriComponents components;
+		private final Map<Class<?>, ControllerLinkBuilder> controllerLinks = new ConcurrentHashMap<>();
+
+		/**
+		 * Returns a {@link ControllerLinkBuilder} pointing to the mapping of the given controller below the base URI. The
+		 * URI is only expanded and rendered once per request.
+		 * 
+		 * @param controller must not be {@literal null}.
+		 * @return
+		 */
+		ControllerLinkBuilder linkTo(Class<?> controller) {
 
-			String mapping = delegate.getMapping(type, method);
+			Assert.notNull(controller, "Controller must not be null!");
 
-			return templates.computeIfAbsent(mapping, UriTemplate::new);
+			return new ControllerLinkBuilder(controllerLinks.computeIfAbsent(controller,
+					it -> ControllerLinkBuilder.linkTo(UriComponentsBuilder.newInstance().uriComponents(components), it)));
 		}
 	}
 
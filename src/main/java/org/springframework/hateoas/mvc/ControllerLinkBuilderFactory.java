@@ -20,9 +20,10 @@ import static org.springframework.hateoas.TemplateVariables.*;
 import static org.springframework.hateoas.core.EncodingUtils.*;
 import static org.springframework.web.util.UriComponents.UriTemplateVariables.*;
 
+import lombok.Value;
+
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,29 +31,31 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MethodLinkBuilderFactory;
 import org.springframework.hateoas.TemplateVariable;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.core.AnnotationAttribute;
-import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
 import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.hateoas.core.MappingDiscoverer;
-import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
+import org.springframework.hateoas.mvc.MethodLinkPlan.ContributorSlot;
+import org.springframework.hateoas.mvc.MethodLinkPlan.ParameterSlot;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ValueConstants;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.web.util.UriTemplate;
 
 /**
  * Factory for {@link LinkBuilderSupport} instances based on the request mapping annotated on the given controller.
@@ -67,14 +70,16 @@ import org.springframework.web.util.UriTemplate;
  * @author Andrew Naydyonock
  * @author Greg Turnquist
  */
-public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<ControllerLinkBuilder> {
+public class ControllerLinkBuilderFactory
+		implements MethodLinkBuilderFactory<ControllerLinkBuilder>, ApplicationListener<ContextRefreshedEvent>, Ordered {
 
-	private static final MappingDiscoverer DISCOVERER = new AnnotationMappingDiscoverer(RequestMapping.class);
 	private static final AnnotatedParametersParameterAccessor PATH_VARIABLE_ACCESSOR = new AnnotatedParametersParameterAccessor(
 			new AnnotationAttribute(PathVariable.class));
 	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
 
+	private final Map<PlanKey, MethodLinkPlan> plans = new ConcurrentReferenceHashMap<>();
 	private List<UriComponentsContributor> uriComponentsContributors = new ArrayList<UriComponentsContributor>();
+	private MappingDiscoverer discoverer;
 
 	/**
 	 * Configures the {@link UriComponentsContributor} to be used when building {@link Link} instances from method
@@ -85,6 +90,44 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	public void setUriComponentsContributors(List<? extends UriComponentsContributor> uriComponentsContributors) {
 		this.uriComponentsContributors = Collections.unmodifiableList(uriComponentsContributors);
+		this.plans.clear();
+	}
+
+	/**
+	 * Configures the {@link MappingDiscoverer} to look up the mappings of the methods links are built for from method
+	 * invocations. Defaults to the annotation based one used by {@link ControllerLinkBuilder}.
+	 * 
+	 * @see HandlerMappingMappingDiscoverer
+	 * @param discoverer must not be {@literal null}.
+	 */
+	public void setMappingDiscoverer(MappingDiscoverer discoverer) {
+
+		Assert.notNull(discoverer, "MappingDiscoverer must not be null!");
+
+		this.discoverer = discoverer;
+		this.plans.clear();
+	}
+
+	/**
+	 * Drops all cached {@link MethodLinkPlan}s as the mappings they were built from might have changed, e.g. if the
+	 * configured {@link MappingDiscoverer} looks them up from the handler mappings of the refreshed context.
+	 * 
+	 * @param event
+	 * @see HandlerMappingMappingDiscoverer#onApplicationEvent(ContextRefreshedEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		this.plans.clear();
+	}
+
+	/**
+	 * Drops the cached plans before other listeners, like {@link ControllerLinkBuilderWarmUp}, rebuild them.
+	 * 
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
 	}
 
 	/*
@@ -133,49 +176,114 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		Assert.isInstanceOf(LastInvocationAware.class, invocationValue);
 		LastInvocationAware invocations = (LastInvocationAware) invocationValue;
 
-		MethodInvocation invocation = invocations.getLastInvocation();
-		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
-		Method method = invocation.getMethod();
+		return linkTo(invocations.getLastInvocation(), invocations.getObjectParameters());
+	}
+
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} for the given {@link MethodInvocation} using the given parameters to
+	 * expand the type-level mapping.
+	 * 
+	 * @param invocation must not be {@literal null}.
+	 * @param classMappingParameters must not be {@literal null}.
+	 * @return
+	 */
+	ControllerLinkBuilder linkTo(MethodInvocation invocation, Iterator<Object> classMappingParameters) {
+		return linkTo(invocation, classMappingParameters, ControllerLinkBuilder.getBuilder());
+	}
+
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} for the given invocation value (see {@link #linkTo(Object)}) using the
+	 * given base URI instead of the one derived from the current request. Useful to build links outside of a Spring MVC
+	 * request, e.g. in Spring WebFlux applications.
+	 *
+	 * @param invocationValue must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public ControllerLinkBuilder linkTo(Object invocationValue, UriComponents baseUri) {
+
+		Assert.isInstanceOf(LastInvocationAware.class, invocationValue);
+		Assert.notNull(baseUri, "Base URI must not be null!");
+
+		LastInvocationAware invocations = (LastInvocationAware) invocationValue;
+
+		return linkTo(invocations.getLastInvocation(), invocations.getObjectParameters(),
+				UriComponentsBuilder.newInstance().uriComponents(baseUri));
+	}
 
-		String mapping = DISCOVERER.getMapping(invocation.getTargetType(), method);
+	private ControllerLinkBuilder linkTo(MethodInvocation invocation, Iterator<Object> classMappingParameters,
+			UriComponentsBuilder base) {
 
-		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
+		Assert.notNull(invocation, "MethodInvocation must not be null!");
+		Assert.notNull(classMappingParameters, "Class mapping parameters must not be null!");
+
+		MethodLinkPlan plan = getPlan(invocation.getTargetType(), invocation.getMethod());
+		Object[] arguments = invocation.getArguments();
+
+		UriComponentsBuilder builder = base.path(plan.getMapping());
 
-		UriTemplate template = new UriTemplate(mapping);
 		Map<String, Object> values = new HashMap<String, Object>();
-		Iterator<String> names = template.getVariableNames().iterator();
+		Iterator<String> names = plan.getVariableNames().iterator();
 
 		while (classMappingParameters.hasNext()) {
 			values.put(names.next(), encodePath(classMappingParameters.next()));
 		}
 
-		for (BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR.getBoundParameters(invocation)) {
-			values.put(parameter.getVariableName(), encodePath(parameter.asString()));
+		for (ParameterSlot slot : plan.getPathVariables()) {
+
+			BoundMethodParameter parameter = PATH_VARIABLE_ACCESSOR.bind(slot.getParameter(), arguments);
+
+			if (parameter != null) {
+				values.put(slot.getVariableName(), encodePath(parameter.asString()));
+			}
 		}
 
 		List<String> optionalEmptyParameters = new ArrayList<String>();
 
-		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(invocation)) {
+		for (ParameterSlot slot : plan.getRequestParameters()) {
 
-			bindRequestParameters(builder, parameter);
+			BoundMethodParameter parameter = REQUEST_PARAM_ACCESSOR.bind(slot.getParameter(), arguments);
+
+			if (parameter == null) {
+				continue;
+			}
+
+			bindRequestParameters(builder, parameter, slot);
 
 			if (SKIP_VALUE.equals(parameter.getValue())) {
 
-				values.put(parameter.getVariableName(), SKIP_VALUE);
+				values.put(slot.getVariableName(), SKIP_VALUE);
 
-				if (!parameter.isRequired()) {
-					optionalEmptyParameters.add(parameter.getVariableName());
+				if (!slot.isRequired()) {
+					optionalEmptyParameters.add(slot.getVariableName());
 				}
 			}
 		}
 
-		for (String variable : template.getVariableNames()) {
+		for (String variable : plan.getVariableNames()) {
 			if (!values.containsKey(variable)) {
 				values.put(variable, SKIP_VALUE);
 			}
 		}
 
-		UriComponents components = applyUriComponentsContributer(builder, invocation).buildAndExpand(values);
+		UriComponents components = applyUriComponentsContributer(builder, invocation, plan).buildAndExpand(values);
+
+		return new ControllerLinkBuilder(components, getOptionalParameterVariables(components, optionalEmptyParameters),
+				invocation);
+	}
+
+	/**
+	 * Returns the {@link TemplateVariables} to expose the given optional request parameters that weren't bound to a
+	 * value.
+	 * 
+	 * @param components must not be {@literal null}.
+	 * @param optionalEmptyParameters must not be {@literal null}.
+	 * @return
+	 */
+	static TemplateVariables getOptionalParameterVariables(UriComponents components,
+			Iterable<String> optionalEmptyParameters) {
+
 		TemplateVariables variables = NONE;
 
 		for (String parameter : optionalEmptyParameters) {
@@ -186,7 +294,7 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			variables = variables.concat(variable);
 		}
 
-		return new ControllerLinkBuilder(components, variables, invocation);
+		return variables;
 	}
 
 	/*
@@ -198,8 +306,6 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		return ControllerLinkBuilder.linkTo(method, parameters);
 	}
 
-
-
 	/**
 	 * Applies the configured {@link UriComponentsContributor}s to the given {@link UriComponentsBuilder}.
 	 * 
@@ -209,34 +315,54 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	protected UriComponentsBuilder applyUriComponentsContributer(UriComponentsBuilder builder,
 			MethodInvocation invocation) {
+		return applyUriComponentsContributer(builder, invocation,
+				getPlan(invocation.getTargetType(), invocation.getMethod()));
+	}
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
-		Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
+	private static UriComponentsBuilder applyUriComponentsContributer(UriComponentsBuilder builder,
+			MethodInvocation invocation, MethodLinkPlan plan) {
 
-		for (MethodParameter parameter : parameters.getParameters()) {
-			Object parameterValue = parameterValues.next();
-			for (UriComponentsContributor contributor : uriComponentsContributors) {
-				if (contributor.supportsParameter(parameter)) {
-					contributor.enhance(builder, parameter, parameterValue);
-				}
-			}
+		if (!plan.hasContributors()) {
+			return builder;
+		}
+
+		Object[] arguments = invocation.getArguments();
+
+		for (ContributorSlot slot : plan.getContributors()) {
+			slot.getContributor().enhance(builder, slot.getParameter(), arguments[slot.getParameterIndex()]);
 		}
 
 		return builder;
 	}
 
+	/**
+	 * Returns the {@link MethodLinkPlan} for the given {@link Method} invoked on the given type.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	MethodLinkPlan getPlan(Class<?> type, Method method) {
+
+		return plans.computeIfAbsent(new PlanKey(type, method), key -> MethodLinkPlan.of(type, method,
+				discoverer == null ? ControllerLinkBuilder.DISCOVERER : discoverer,
+				PATH_VARIABLE_ACCESSOR, REQUEST_PARAM_ACCESSOR, uriComponentsContributors));
+	}
+
 	/**
 	 * Populates the given {@link UriComponentsBuilder} with request parameters found in the given
 	 * {@link BoundMethodParameter}.
 	 * 
 	 * @param builder must not be {@literal null}.
 	 * @param parameter must not be {@literal null}.
+	 * @param slot must not be {@literal null}.
 	 */
 	@SuppressWarnings("unchecked")
-	private static void bindRequestParameters(UriComponentsBuilder builder, BoundMethodParameter parameter) {
+	private static void bindRequestParameters(UriComponentsBuilder builder, BoundMethodParameter parameter,
+			ParameterSlot slot) {
 
 		Object value = parameter.getValue();
-		String key = parameter.getVariableName();
+		String key = slot.getVariableName();
 
 		if (value instanceof MultiValueMap) {
 
@@ -264,8 +390,8 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 
 		} else if (SKIP_VALUE.equals(value)) {
 
-			if (parameter.isRequired()) {
-				builder.queryParam(key, String.format("{%s}", parameter.getVariableName()));
+			if (slot.isRequired()) {
+				builder.queryParam(key, String.format("{%s}", key));
 			}
 
 		} else {
@@ -336,4 +462,14 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			return annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE) ? SKIP_VALUE : null;
 		}
 	}
+
+	/**
+	 * Cache key for {@link MethodLinkPlan}s.
+	 */
+	@Value
+	private static class PlanKey {
+
+		Class<?> type;
+		Method method;
+	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * {@link ApplicationListener} to populate the caches used by {@link ControllerLinkBuilder} and the
+ * {@link ControllerLinkBuilderFactory} beans for all handler methods registered with the
+ * {@link RequestMappingHandlerMapping}s of an {@link ApplicationContext} once it has been refreshed. That moves the creation of the invocation recording proxies, the mapping lookups and the inspection of
+ * method parameters out of the first requests building links to those methods. Opt-in by setting the
+ * {@value #ENABLED_PROPERTY} property to {@literal true}.
+ *
+ * @since 1.0
+ */
+public class ControllerLinkBuilderWarmUp implements ApplicationListener<ContextRefreshedEvent>, Ordered {
+
+	public static final String ENABLED_PROPERTY = "spring.hateoas.warm-up.enabled";
+
+	private static final Log LOG = LogFactory.getLog(ControllerLinkBuilderWarmUp.class);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		ApplicationContext context = event.getApplicationContext();
+
+		if (!context.getEnvironment().getProperty(ENABLED_PROPERTY, Boolean.class, false)) {
+			return;
+		}
+
+		List<HandlerMethod> handlerMethods = new ArrayList<>();
+
+		for (RequestMappingHandlerMapping mapping : context.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+			handlerMethods.addAll(mapping.getHandlerMethods().values());
+		}
+
+		Collection<ControllerLinkBuilderFactory> factories = context.getBeansOfType(ControllerLinkBuilderFactory.class)
+				.values();
+
+		Duration duration = warmUp(handlerMethods, factories);
+
+		if (LOG.isInfoEnabled()) {
+			LOG.info(String.format("Warmed up link building for %s handler methods in %s ms.", handlerMethods.size(),
+					duration.toMillis()));
+		}
+	}
+
+	/**
+	 * Runs after the listeners dropping the caches on refresh, like {@link HandlerMappingMappingDiscoverer} and
+	 * {@link ControllerLinkBuilderFactory}.
+	 * 
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+		return Ordered.LOWEST_PRECEDENCE;
+	}
+
+	/**
+	 * Populates the link building caches for the given {@link HandlerMethod}s.
+	 *
+	 * @param handlerMethods must not be {@literal null}.
+	 * @return the time it took to warm up, will never be {@literal null}.
+	 */
+	Duration warmUp(Collection<HandlerMethod> handlerMethods) {
+		return warmUp(handlerMethods, Collections.emptyList());
+	}
+
+	/**
+	 * Populates the link building caches for the given {@link HandlerMethod}s, including the ones of the given
+	 * {@link ControllerLinkBuilderFactory}s.
+	 *
+	 * @param handlerMethods must not be {@literal null}.
+	 * @param factories must not be {@literal null}.
+	 * @return the time it took to warm up, will never be {@literal null}.
+	 */
+	Duration warmUp(Collection<HandlerMethod> handlerMethods, Collection<ControllerLinkBuilderFactory> factories) {
+
+		Assert.notNull(handlerMethods, "Handler methods must not be null!");
+		Assert.notNull(factories, "ControllerLinkBuilderFactories must not be null!");
+
+		long start = System.nanoTime();
+
+		for (HandlerMethod handlerMethod : handlerMethods) {
+
+			Class<?> type = ClassUtils.getUserClass(handlerMethod.getBeanType());
+			Method method = handlerMethod.getMethod();
+
+			try {
+
+				ControllerLinkBuilder.warmUp(type, method);
+
+				for (ControllerLinkBuilderFactory factory : factories) {
+					factory.getPlan(type, method);
+				}
+
+			} catch (RuntimeException o_O) {
+
+				if (LOG.isDebugEnabled()) {
+					LOG.debug(String.format("Could not warm up link building for %s!", handlerMethod), o_O);
+				}
+			}
+		}
+
+		return Duration.ofNanos(System.nanoTime() - start);
+	}
+}
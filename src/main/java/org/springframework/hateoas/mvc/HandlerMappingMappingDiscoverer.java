@@ -0,0 +1,251 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import lombok.Value;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * {@link MappingDiscoverer} that looks up the mappings of handler methods from the {@link RequestMappingInfo}s Spring
+ * MVC's {@link RequestMappingHandlerMapping}s have already created for them. The handler methods registered are indexed
+ * on first access, the index is dropped on every {@link ContextRefreshedEvent} to pick up handler methods registered
+ * later on. If multiple {@link RequestMappingHandlerMapping}s register the same handler method, the first one wins.
+ * Lookups for types and methods not registered with any of the {@link RequestMappingHandlerMapping}s, as well as
+ * type-level lookups, are forwarded to a fallback {@link MappingDiscoverer}.
+ *
+ * @since 1.0
+ */
+public class HandlerMappingMappingDiscoverer
+		implements MappingDiscoverer, ApplicationListener<ContextRefreshedEvent>, Ordered {
+
+	private static final Log LOG = LogFactory.getLog(HandlerMappingMappingDiscoverer.class);
+
+	private final Supplier<? extends Collection<RequestMappingHandlerMapping>> handlerMappings;
+	private final MappingDiscoverer fallback;
+
+	private volatile Map<MethodKey, HandlerMapping> index;
+
+	/**
+	 * Creates a new {@link HandlerMappingMappingDiscoverer} for the given {@link RequestMappingHandlerMapping} and
+	 * fallback {@link MappingDiscoverer}.
+	 *
+	 * @param handlerMapping must not be {@literal null}.
+	 * @param fallback must not be {@literal null}.
+	 */
+	public HandlerMappingMappingDiscoverer(RequestMappingHandlerMapping handlerMapping, MappingDiscoverer fallback) {
+
+		this(() -> Collections.singletonList(handlerMapping), fallback);
+
+		Assert.notNull(handlerMapping, "RequestMappingHandlerMapping must not be null!");
+	}
+
+	/**
+	 * Creates a new {@link HandlerMappingMappingDiscoverer} for the {@link RequestMappingHandlerMapping}s provided by
+	 * the given {@link Supplier} and fallback {@link MappingDiscoverer}. The {@link Supplier} is invoked on first lookup
+	 * and after each {@link ContextRefreshedEvent}. If it returns {@literal null} or an empty {@link Collection}, all
+	 * lookups are forwarded to the fallback.
+	 *
+	 * @param handlerMappings must not be {@literal null}.
+	 * @param fallback must not be {@literal null}.
+	 */
+	public HandlerMappingMappingDiscoverer(Supplier<? extends Collection<RequestMappingHandlerMapping>> handlerMappings,
+			MappingDiscoverer fallback) {
+
+		Assert.notNull(handlerMappings, "RequestMappingHandlerMapping supplier must not be null!");
+		Assert.notNull(fallback, "Fallback MappingDiscoverer must not be null!");
+
+		this.handlerMappings = handlerMappings;
+		this.fallback = fallback;
+	}
+
+	/**
+	 * Drops the index of handler methods so that it's rebuilt from the current state of the
+	 * {@link RequestMappingHandlerMapping}s on the next lookup.
+	 * 
+	 * @param event
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		this.index = null;
+	}
+
+	/**
+	 * Drops the index before other listeners, like {@link ControllerLinkBuilderWarmUp}, look up mappings.
+	 * 
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class)
+	 */
+	@Override
+	public String getMapping(Class<?> type) {
+		return fallback.getMapping(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.reflect.Method)
+	 */
+	@Override
+	public String getMapping(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		return getMapping(method.getDeclaringClass(), method);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getMapping(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public String getMapping(Class<?> type, Method method) {
+
+		HandlerMapping mapping = lookup(type, method);
+
+		return mapping == null ? fallback.getMapping(type, method) : mapping.getPattern();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.MappingDiscoverer#getRequestMethod(java.lang.Class, java.lang.reflect.Method)
+	 */
+	@Override
+	public Collection<HttpMethod> getRequestMethod(Class<?> type, Method method) {
+
+		HandlerMapping mapping = lookup(type, method);
+
+		return mapping == null ? fallback.getRequestMethod(type, method) : mapping.getRequestMethods();
+	}
+
+	private HandlerMapping lookup(Class<?> type, Method method) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		HandlerMapping mapping = getIndex().get(new MethodKey(ClassUtils.getUserClass(type), method));
+
+		if (mapping == null && LOG.isDebugEnabled()) {
+			LOG.debug(String.format("No handler method registered for %s on %s, falling back to %s.", method, type,
+					fallback));
+		}
+
+		return mapping;
+	}
+
+	private Map<MethodKey, HandlerMapping> getIndex() {
+
+		Map<MethodKey, HandlerMapping> index = this.index;
+
+		if (index == null) {
+
+			Collection<RequestMappingHandlerMapping> mappings = handlerMappings.get();
+
+			if (mappings == null || mappings.isEmpty()) {
+
+				if (LOG.isInfoEnabled()) {
+					LOG.info(String.format("No RequestMappingHandlerMapping available, falling back to %s for all lookups.",
+							fallback));
+				}
+
+				mappings = Collections.emptyList();
+			}
+
+			index = this.index = createIndex(mappings);
+		}
+
+		return index;
+	}
+
+	private static Map<MethodKey, HandlerMapping> createIndex(Collection<RequestMappingHandlerMapping> mappings) {
+
+		Map<MethodKey, HandlerMapping> index = new HashMap<>();
+
+		for (RequestMappingHandlerMapping mapping : mappings) {
+
+			for (Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+
+				HandlerMethod handlerMethod = entry.getValue();
+				MethodKey key = new MethodKey(ClassUtils.getUserClass(handlerMethod.getBeanType()),
+						handlerMethod.getMethod());
+
+				index.putIfAbsent(key, HandlerMapping.of(entry.getKey()));
+			}
+		}
+
+		return index;
+	}
+
+	@Value
+	private static class MethodKey {
+
+		Class<?> type;
+		Method method;
+	}
+
+	/**
+	 * The first pattern and the {@link HttpMethod}s of a {@link RequestMappingInfo}.
+	 */
+	@Value
+	private static class HandlerMapping {
+
+		String pattern;
+		Collection<HttpMethod> requestMethods;
+
+		static HandlerMapping of(RequestMappingInfo info) {
+
+			Iterator<String> patterns = info.getPatternsCondition().getPatterns().iterator();
+			List<HttpMethod> requestMethods = new ArrayList<>();
+
+			for (RequestMethod requestMethod : info.getMethodsCondition().getMethods()) {
+				requestMethods.add(HttpMethod.valueOf(requestMethod.name()));
+			}
+
+			return new HandlerMapping(patterns.hasNext() ? patterns.next() : null,
+					Collections.unmodifiableList(requestMethods));
+		}
+	}
+}
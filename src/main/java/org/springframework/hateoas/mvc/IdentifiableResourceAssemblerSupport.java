@@ -18,6 +18,8 @@ package org.springframework.hateoas.mvc;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 
 import org.springframework.hateoas.Identifiable;
 import org.springframework.hateoas.ResourceAssembler;
@@ -72,6 +74,29 @@ public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiabl
 		return instance;
 	}
 
+	/**
+	 * Creates new resources for all given entities with a self link to their {@link Identifiable}'s id, resolving the
+	 * link to the controller only once for all of them.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param parameters parameters to extend template variables in the type level mapping.
+	 * @return
+	 * @since 1.0
+	 */
+	protected List<D> createResources(Iterable<? extends T> entities, Object... parameters) {
+		return createResourcesWithId(entities, Identifiable::getId, parameters);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.mvc.ResourceAssemblerSupport#createResourcesWithId(java.lang.Iterable, java.util.function.Function, java.lang.Object[])
+	 */
+	@Override
+	protected List<D> createResourcesWithId(Iterable<? extends T> entities, Function<? super T, ?> ids,
+			Object... parameters) {
+		return super.createResourcesWithId(entities, ids, unwrapIdentifyables(parameters));
+	}
+
 	/**
 	 * Extracts the ids of the given values in case they're {@link Identifiable}s. Returns all other objects as they are.
 	 * 
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.experimental.Wither;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.hateoas.EntityLinks;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Immutable snapshot of the request specific state needed to build links: the base URI (with forwarded headers already
+ * applied) and the {@link Locale} to resolve link relation titles for. Capture it once via {@link #current()} on the
+ * request thread and either build links through it directly or propagate it to other threads to assemble resources
+ * there:
+ *
+ * <pre>
+ * LinkContext context = LinkContext.current();
+ *
+ * CompletableFuture&lt;Resources&lt;OrderResource&gt;&gt; resources = CompletableFuture
+ * 		.supplyAsync(context.wrap(() -&gt; assembler.toResources(orders)), executor);
+ * </pre>
+ *
+ * While bound to a thread via {@link #run(Runnable)}, {@link #call(Supplier)} or the wrapped variants, the context is
+ * used by {@link ControllerLinkBuilder}, {@link EntityLinks} backed by it, {@link ResourceAssemblerSupport} and the
+ * rendering of link relation titles.
+ *
+ * @since 1.0
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LinkContext {
+
+	private static final ThreadLocal<LinkContext> BOUND = new NamedThreadLocal<>("Bound link context");
+
+	/**
+	 * The base URI all links are built relative to.
+	 */
+	UriComponents baseUri;
+
+	/**
+	 * The {@link Locale} to resolve link relation titles for.
+	 */
+	@Wither Locale locale;
+
+	/**
+	 * Captures the {@link LinkContext} for the current thread, i.e. the one bound to it, or the one derived from the
+	 * current request and {@link LocaleContextHolder}. Outside of a Spring MVC request, links will be relative.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public static LinkContext current() {
+
+		LinkContext context = BOUND.get();
+
+		return context != null //
+				? context //
+				: new LinkContext(ControllerLinkBuilder.getBuilder().build(), LocaleContextHolder.getLocale());
+	}
+
+	/**
+	 * Creates a new {@link LinkContext} for the given base URI and the default {@link Locale}.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @return
+	 */
+	public static LinkContext of(UriComponents baseUri) {
+
+		Assert.notNull(baseUri, "Base URI must not be null!");
+
+		return new LinkContext(baseUri, Locale.getDefault());
+	}
+
+	/**
+	 * Creates a new {@link LinkContext} for the given base URI and the default {@link Locale}.
+	 *
+	 * @param baseUri must not be {@literal null} or empty.
+	 * @return
+	 */
+	public static LinkContext of(String baseUri) {
+
+		Assert.hasText(baseUri, "Base URI must not be null or empty!");
+
+		return of(UriComponentsBuilder.fromUriString(baseUri).build());
+	}
+
+	/**
+	 * Returns the {@link LinkContext} bound to the current thread.
+	 *
+	 * @return the bound {@link LinkContext} or {@literal null} if none is bound.
+	 */
+	static LinkContext getBound() {
+		return BOUND.get();
+	}
+
+	/**
+	 * Returns a new {@link UriComponentsBuilder} pointing to the base URI.
+	 *
+	 * @return
+	 */
+	public UriComponentsBuilder getBuilder() {
+		return UriComponentsBuilder.newInstance().uriComponents(baseUri);
+	}
+
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} with a base of the mapping annotated to the given controller class.
+	 *
+	 * @param controller the class to discover the annotation on, must not be {@literal null}.
+	 * @return
+	 * @see ControllerLinkBuilder#linkTo(Class)
+	 */
+	public ControllerLinkBuilder linkTo(Class<?> controller) {
+		return linkTo(controller, new Object[0]);
+	}
+
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} with a base of the mapping annotated to the given controller class
+	 * using the given parameters to expand the template variables of the mapping.
+	 *
+	 * @param controller the class to discover the annotation on, must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 * @see ControllerLinkBuilder#linkTo(Class, Object...)
+	 */
+	public ControllerLinkBuilder linkTo(Class<?> controller, Object... parameters) {
+		return ControllerLinkBuilder.linkTo(getBuilder(), controller, parameters);
+	}
+
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} pointing to the given handler method.
+	 *
+	 * @param controller must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 * @see ControllerLinkBuilder#linkTo(Class, Method, Object...)
+	 */
+	public ControllerLinkBuilder linkTo(Class<?> controller, Method method, Object... parameters) {
+		return ControllerLinkBuilder.linkTo(getBuilder(), controller, method, parameters);
+	}
+
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} pointing to the controller method invoked on a proxy created via
+	 * {@link ControllerLinkBuilder#methodOn(Class, Object...)}.
+	 *
+	 * @param invocationValue must not be {@literal null}.
+	 * @return
+	 * @see ControllerLinkBuilder#linkTo(Object)
+	 */
+	public ControllerLinkBuilder linkTo(Object invocationValue) {
+		return ControllerLinkBuilder.FACTORY.linkTo(invocationValue, baseUri);
+	}
+
+	/**
+	 * Runs the given {@link Runnable} with this {@link LinkContext} bound to the current thread.
+	 *
+	 * @param runnable must not be {@literal null}.
+	 */
+	public void run(Runnable runnable) {
+
+		Assert.notNull(runnable, "Runnable must not be null!");
+
+		call(() -> {
+			runnable.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Invokes the given {@link Supplier} with this {@link LinkContext} bound to the current thread. The previously
+	 * bound {@link LinkContext} and {@link LocaleContext} are restored afterwards.
+	 *
+	 * @param supplier must not be {@literal null}.
+	 * @return the value returned by the {@link Supplier}.
+	 */
+	public <T> T call(Supplier<T> supplier) {
+
+		Assert.notNull(supplier, "Supplier must not be null!");
+
+		LinkContext previous = BOUND.get();
+		LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+
+		BOUND.set(this);
+		LocaleContextHolder.setLocale(locale);
+
+		try {
+			return supplier.get();
+		} finally {
+
+			if (previous == null) {
+				BOUND.remove();
+			} else {
+				BOUND.set(previous);
+			}
+
+			LocaleContextHolder.setLocaleContext(previousLocale);
+		}
+	}
+
+	/**
+	 * Returns a {@link Runnable} that runs the given one with this {@link LinkContext} bound, e.g. to be handed to
+	 * an {@link java.util.concurrent.Executor}.
+	 *
+	 * @param runnable must not be {@literal null}.
+	 * @return
+	 */
+	public Runnable wrap(Runnable runnable) {
+
+		Assert.notNull(runnable, "Runnable must not be null!");
+
+		return () -> run(runnable);
+	}
+
+	/**
+	 * Returns a {@link Supplier} that invokes the given one with this {@link LinkContext} bound, e.g. to be used
+	 * with {@link java.util.concurrent.CompletableFuture#supplyAsync(Supplier, java.util.concurrent.Executor)}.
+	 *
+	 * @param supplier must not be {@literal null}.
+	 * @return
+	 */
+	public <T> Supplier<T> wrap(Supplier<T> supplier) {
+
+		Assert.notNull(supplier, "Supplier must not be null!");
+
+		return () -> call(supplier);
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * Immutable, pre-computed description of how to build a link to a particular controller method invoked on a particular
+ * controller type. Captures everything that only depends on the method signature and its annotations, so that link
+ * creation only has to bind the actual invocation arguments.
+ *
+ * @see ControllerLinkBuilderFactory#linkTo(Object)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class MethodLinkPlan {
+
+	private static final ContributorSlot[] NO_CONTRIBUTORS = new ContributorSlot[0];
+
+	/**
+	 * The full mapping (type-level and method-level combined) of the controller method.
+	 */
+	private final String mapping;
+
+	/**
+	 * The names of all template variables contained in the mapping in order of their declaration.
+	 */
+	private final List<String> variableNames;
+
+	/**
+	 * The parameters to be bound to path variables.
+	 */
+	private final List<ParameterSlot> pathVariables;
+
+	/**
+	 * The parameters to be bound to request parameters.
+	 */
+	private final List<ParameterSlot> requestParameters;
+
+	/**
+	 * The {@link UriComponentsContributor}s applicable to the method's parameters, exposed as array to allow iterating
+	 * them without any allocation at link creation time.
+	 */
+	private final ContributorSlot[] contributors;
+
+	/**
+	 * Creates a new {@link MethodLinkPlan} for the given {@link Method} invoked on the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param discoverer must not be {@literal null}.
+	 * @param pathVariableAccessor must not be {@literal null}.
+	 * @param requestParameterAccessor must not be {@literal null}.
+	 * @param contributors must not be {@literal null}.
+	 * @return
+	 */
+	static MethodLinkPlan of(Class<?> type, Method method, MappingDiscoverer discoverer,
+			AnnotatedParametersParameterAccessor pathVariableAccessor,
+			AnnotatedParametersParameterAccessor requestParameterAccessor,
+			List<? extends UriComponentsContributor> contributors) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(discoverer, "MappingDiscoverer must not be null!");
+		Assert.notNull(contributors, "UriComponentsContributors must not be null!");
+
+		String mapping = discoverer.getMapping(type, method);
+		List<String> variableNames = mapping == null //
+				? Collections.emptyList() //
+				: Collections.unmodifiableList(new UriTemplate(mapping).getVariableNames());
+
+		return new MethodLinkPlan(mapping, variableNames, //
+				getSlots(method, pathVariableAccessor), //
+				getSlots(method, requestParameterAccessor), //
+				getContributorSlots(method, contributors));
+	}
+
+	/**
+	 * Returns whether the plan contains any {@link UriComponentsContributor}s to be applied.
+	 *
+	 * @return
+	 */
+	public boolean hasContributors() {
+		return contributors.length != 0;
+	}
+
+	private static List<ParameterSlot> getSlots(Method method, AnnotatedParametersParameterAccessor accessor) {
+
+		List<ParameterSlot> slots = new ArrayList<>();
+
+		for (MethodParameter parameter : accessor.getAnnotatedParameters(method)) {
+
+			BoundMethodParameter descriptor = accessor.describe(parameter);
+
+			slots.add(new ParameterSlot(parameter, descriptor.getVariableName(), descriptor.isRequired()));
+		}
+
+		return Collections.unmodifiableList(slots);
+	}
+
+	private static ContributorSlot[] getContributorSlots(Method method,
+			List<? extends UriComponentsContributor> contributors) {
+
+		if (contributors.isEmpty() || method.getParameterCount() == 0) {
+			return NO_CONTRIBUTORS;
+		}
+
+		List<ContributorSlot> slots = new ArrayList<>();
+
+		for (MethodParameter parameter : new MethodParameters(method).getParameters()) {
+			for (UriComponentsContributor contributor : contributors) {
+				if (contributor.supportsParameter(parameter)) {
+					slots.add(new ContributorSlot(parameter, parameter.getParameterIndex(), contributor));
+				}
+			}
+		}
+
+		return slots.isEmpty() ? NO_CONTRIBUTORS : slots.toArray(new ContributorSlot[slots.size()]);
+	}
+
+	/**
+	 * A {@link MethodParameter} to be bound into the URI alongside its pre-computed variable name and whether it's
+	 * required.
+	 */
+	@Value
+	static class ParameterSlot {
+
+		MethodParameter parameter;
+		String variableName;
+		boolean required;
+	}
+
+	/**
+	 * A {@link MethodParameter} and its index alongside a {@link UriComponentsContributor} that supports it.
+	 */
+	@Value
+	static class ContributorSlot {
+
+		MethodParameter parameter;
+		int parameterIndex;
+		UriComponentsContributor contributor;
+	}
+}
@@ -18,12 +18,17 @@ package org.springframework.hateoas.mvc;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamingResources;
 import org.springframework.hateoas.core.Objects;
 
 /**
@@ -58,6 +63,53 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		return this.map(entities).toResources();
 	}
 
+	/**
+	 * Converts the given entity into a resource building all links relative to the given {@link LinkContext}, e.g. when
+	 * assembling resources outside of the thread processing the request.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public D toResource(T entity, LinkContext context) {
+
+		Objects.requireNonNull(context, "LinkContext must not be null!");
+
+		return context.call(() -> toResource(entity));
+	}
+
+	/**
+	 * Converts all given entities into resources building all links relative to the given {@link LinkContext}.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return
+	 * @see #toResource(Object, LinkContext)
+	 * @since 1.0
+	 */
+	public Resources<D> toResources(Iterable<? extends T> entities, LinkContext context) {
+
+		Objects.requireNonNull(context, "LinkContext must not be null!");
+
+		return context.call(() -> toResources(entities));
+	}
+
+	/**
+	 * Lazily converts the entities of the given {@link Stream} into resources while the returned
+	 * {@link StreamingResources} are rendered, so that large result sets don't have to be held in memory.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public StreamingResources<D> toStreamingResources(Stream<? extends T> entities) {
+
+		Objects.requireNonNull(entities, "Entities must not be null!");
+
+		return StreamingResources.of(entities.map(this::toResource));
+	}
+
 	public Builder<T, D> map(Iterable<? extends T> entities) {
 		return new Builder<>(entities, this);
 	}
@@ -83,6 +135,47 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		return instance;
 	}
 
+	/**
+	 * Creates new resources for all given entities with a self link to the id extracted from each of them. Prefer this
+	 * over calling {@link #createResourceWithId(Object, Object, Object...)} for each entity, as the link to the
+	 * controller is only resolved once for all of them.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @param ids the {@link Function} to extract the id from an entity, must not be {@literal null}.
+	 * @param parameters parameters to extend template variables in the type level mapping.
+	 * @return
+	 * @since 1.0
+	 */
+	protected List<D> createResourcesWithId(Iterable<? extends T> entities, Function<? super T, ?> ids,
+			Object... parameters) {
+
+		Objects.requireNonNull(entities, "Entities must not be null!");
+		Objects.requireNonNull(ids, "Id function must not be null!");
+
+		List<T> sources = new ArrayList<>();
+		List<Object> identifiers = new ArrayList<>();
+
+		for (T entity : entities) {
+
+			Objects.requireNonNull(entity, "Entity must not be null!");
+
+			sources.add(entity);
+			identifiers.add(Objects.requireNonNull(ids.apply(entity), "Id must not be null!"));
+		}
+
+		Iterator<Link> links = linkTo(this.controllerClass, parameters).slashAll(identifiers, Link.REL_SELF).iterator();
+		List<D> result = new ArrayList<>(sources.size());
+
+		for (T entity : sources) {
+
+			D instance = instantiateResource(entity);
+			instance.add(links.next());
+			result.add(instance);
+		}
+
+		return result;
+	}
+
 	/**
 	 * Instantiates the resource object. Default implementation will assume a no-arg constructor and use reflection but
 	 * can be overridden to manually set up the object instance initially (e.g. to improve performance if this becomes an
@@ -16,52 +16,86 @@
 package org.springframework.hateoas.mvc;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.Value;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.AffordanceModel;
 import org.springframework.hateoas.QueryParameter;
+import org.springframework.hateoas.core.AffordanceModelFactory;
+import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.util.UriComponents;
 
 /**
- * Spring MVC-based representation of an {@link Affordance}.
+ * Spring MVC-based representation of an {@link Affordance}. {@link AffordanceModel}s not added explicitly are created
+ * on first request for a particular {@link MediaType} using the {@link AffordanceModelFactory} registered for it.
  * 
  * @author Greg Turnquist
  */
-@Value
+@ToString(of = "descriptor")
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 class SpringMvcAffordance implements Affordance {
 
+	private final Descriptor descriptor;
+	private final Map<MediaType, AffordanceModel> affordanceModels;
+	private final ModelSource source;
+
 	/**
-	 * Request method verb associated with the Spring MVC controller method.
+	 * Construct a Spring MVC-based {@link Affordance} based on Spring MVC controller method and {@link RequestMethod}.
 	 */
-	private final HttpMethod httpMethod;
+	public SpringMvcAffordance(HttpMethod httpMethod, Method method) {
+		this(new Descriptor(httpMethod, method), new ConcurrentHashMap<>(), null);
+	}
 
 	/**
-	 * Handle on the Spring MVC controller {@link Method}.
+	 * Construct a Spring MVC-based {@link Affordance} for the given {@link Descriptor} that will lazily create its
+	 * {@link AffordanceModel}s using the given {@link AffordanceModelFactory}s for the given {@link MethodInvocation}
+	 * and {@link UriComponents}.
+	 * 
+	 * @param descriptor must not be {@literal null}.
+	 * @param invocation must not be {@literal null}.
+	 * @param components must not be {@literal null}.
+	 * @param factories must not be {@literal null}.
 	 */
-	private final Method method;
-	private final Map<MediaType, AffordanceModel> affordanceModels;
+	public SpringMvcAffordance(Descriptor descriptor, MethodInvocation invocation, UriComponents components,
+			PluginRegistry<? extends AffordanceModelFactory, MediaType> factories) {
+		this(descriptor, new ConcurrentHashMap<>(), new ModelSource(invocation, components, factories));
+	}
 
 	/**
-	 * Construct a Spring MVC-based {@link Affordance} based on Spring MVC controller method and {@link RequestMethod}.
+	 * Request method verb associated with the Spring MVC controller method.
 	 */
-	public SpringMvcAffordance(HttpMethod httpMethod, Method method) {
-		this(httpMethod, method, new HashMap<MediaType, AffordanceModel>());
+	@Override
+	public HttpMethod getHttpMethod() {
+		return descriptor.getHttpMethod();
+	}
+
+	/**
+	 * Handle on the Spring MVC controller {@link Method}.
+	 * 
+	 * @return
+	 */
+	public Method getMethod() {
+		return descriptor.getMethod();
 	}
 
 	/*
@@ -70,7 +104,7 @@ class SpringMvcAffordance implements Affordance {
 	 */
 	@Override
 	public String getName() {
-		return this.method.getName();
+		return getMethod().getName();
 	}
 
 	/*
@@ -80,7 +114,20 @@ class SpringMvcAffordance implements Affordance {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T extends AffordanceModel> T getAffordanceModel(MediaType mediaType) {
-		return (T) this.affordanceModels.get(mediaType);
+
+		AffordanceModel model = this.affordanceModels.get(mediaType);
+
+		if (model != null || source == null) {
+			return (T) model;
+		}
+
+		model = source.createModel(this, mediaType);
+
+		if (model != null) {
+			addAffordanceModel(model);
+		}
+
+		return (T) model;
 	}
 
 	/**
@@ -97,6 +144,42 @@ class SpringMvcAffordance implements Affordance {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof SpringMvcAffordance)) {
+			return false;
+		}
+
+		SpringMvcAffordance that = (SpringMvcAffordance) obj;
+
+		if (!this.descriptor.equals(that.descriptor)) {
+			return false;
+		}
+
+		// Affordances created lazily are identified by the URI they point to, others by their explicitly added models
+		return this.source == null || that.source == null //
+				? this.source == that.source && this.affordanceModels.equals(that.affordanceModels) //
+				: this.source.components.equals(that.source.components);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(descriptor, source == null ? affordanceModels : source.components);
+	}
+
 	/**
 	 * Get a listing of {@link MethodParameter}s based on Spring MVC's {@link RequestBody}s.
 	 *
@@ -104,7 +187,7 @@ class SpringMvcAffordance implements Affordance {
 	 */
 	@Override
 	public List<MethodParameter> getInputMethodParameters() {
-		return new MethodParameters(this.method).getParametersWith(RequestBody.class);
+		return descriptor.getInputMethodParameters();
 	}
 
 	/**
@@ -114,12 +197,61 @@ class SpringMvcAffordance implements Affordance {
 	 */
 	@Override
 	public List<QueryParameter> getQueryMethodParameters() {
+		return descriptor.getQueryMethodParameters();
+	}
+
+	/**
+	 * The parts of a {@link SpringMvcAffordance} that only depend on the handler method and {@link HttpMethod} and can
+	 * thus be shared between all {@link SpringMvcAffordance}s pointing to that method.
+	 */
+	@Value
+	static class Descriptor {
+
+		HttpMethod httpMethod;
+		Method method;
+		@EqualsAndHashCode.Exclude List<MethodParameter> inputMethodParameters;
+		@EqualsAndHashCode.Exclude List<QueryParameter> queryMethodParameters;
+
+		/**
+		 * Creates a new {@link Descriptor} for the given {@link HttpMethod} and {@link Method}.
+		 * 
+		 * @param httpMethod must not be {@literal null}.
+		 * @param method must not be {@literal null}.
+		 */
+		public Descriptor(HttpMethod httpMethod, Method method) {
+
+			Assert.notNull(httpMethod, "HttpMethod must not be null!");
+			Assert.notNull(method, "Method must not be null!");
+
+			MethodParameters parameters = new MethodParameters(method);
 
-		MethodParameters parameters = new MethodParameters(this.method);
+			this.httpMethod = httpMethod;
+			this.method = method;
+			this.inputMethodParameters = Collections.unmodifiableList(parameters.getParametersWith(RequestBody.class));
+			this.queryMethodParameters = Collections.unmodifiableList(parameters.getParametersWith(RequestParam.class) //
+					.stream() //
+					.map(methodParameter -> methodParameter.getParameterAnnotation(RequestParam.class)) //
+					.map(requestParam -> new QueryParameter(requestParam.name(), requestParam.required(),
+							requestParam.value())) //
+					.collect(Collectors.toList()));
+		}
+	}
+
+	/**
+	 * Everything needed to create {@link AffordanceModel}s on demand.
+	 */
+	@RequiredArgsConstructor
+	private static class ModelSource {
+
+		private final MethodInvocation invocation;
+		private final UriComponents components;
+		private final PluginRegistry<? extends AffordanceModelFactory, MediaType> factories;
 
-		return parameters.getParametersWith(RequestParam.class).stream()
-			.map(methodParameter -> methodParameter.getParameterAnnotation(RequestParam.class))
-			.map(requestParam -> new QueryParameter(requestParam.name(), requestParam.required(), requestParam.value()))
-			.collect(Collectors.toList());
+		AffordanceModel createModel(Affordance affordance, MediaType mediaType) {
+
+			return factories.getPluginFor(mediaType) //
+					.map(it -> it.getAffordanceModel(affordance, invocation, components)) //
+					.orElse(null);
+		}
 	}
 }
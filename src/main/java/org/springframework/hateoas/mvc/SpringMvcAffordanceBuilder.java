@@ -17,29 +17,40 @@ package org.springframework.hateoas.mvc;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.core.AffordanceModelFactory;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.hateoas.mvc.SpringMvcAffordance.Descriptor;
+import org.springframework.hateoas.support.PropertyUtils;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.PluginRegistry;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.util.UriComponents;
 
 /**
- * Construct {@link SpringMvcAffordance}s using a collection of {@link AffordanceModelFactory}s.
+ * Construct {@link SpringMvcAffordance}s using a collection of {@link AffordanceModelFactory}s. The factories are only
+ * consulted once an {@link org.springframework.hateoas.AffordanceModel} for a particular media type is requested. The
+ * parts of an affordance only depending on the handler method are calculated once and shared between all
+ * {@link SpringMvcAffordance}s created for it.
  * 
  * @author Greg Turnquist
  */
 @RequiredArgsConstructor
 class SpringMvcAffordanceBuilder {
 
+	private static final Map<DescriptorKey, Descriptor> DESCRIPTORS = new ConcurrentReferenceHashMap<>();
+
 	private final @NonNull PluginRegistry<? extends AffordanceModelFactory, MediaType> factories;
 
 	/**
@@ -59,15 +70,41 @@ class SpringMvcAffordanceBuilder {
 
 		for (HttpMethod requestMethod : discoverer.getRequestMethod(invocation.getTargetType(), method)) {
 
-			SpringMvcAffordance affordance = new SpringMvcAffordance(requestMethod, invocation.getMethod());
+			affordances.add(new SpringMvcAffordance(getDescriptor(requestMethod, method), invocation, components,
+					factories));
+		}
+
+		return affordances;
+	}
 
-			for (AffordanceModelFactory factory : factories) {
-				affordance.addAffordanceModel(factory.getAffordanceModel(affordance, invocation, components));
-			}
+	/**
+	 * Eagerly calculates the method specific details of the affordances for the given handler method and
+	 * {@link HttpMethod}s, including the properties of a request body type.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param requestMethods must not be {@literal null}.
+	 */
+	void warmUp(Method method, Collection<HttpMethod> requestMethods) {
 
-			affordances.add(affordance);
+		for (HttpMethod requestMethod : requestMethods) {
+
+			getDescriptor(requestMethod, method).getInputMethodParameters().stream() //
+					.findFirst() //
+					.map(ResolvableType::forMethodParameter) //
+					.ifPresent(PropertyUtils::findProperties);
 		}
+	}
 
-		return affordances;
+	private static Descriptor getDescriptor(HttpMethod requestMethod, Method method) {
+
+		return DESCRIPTORS.computeIfAbsent(new DescriptorKey(requestMethod, method),
+				it -> new Descriptor(it.getHttpMethod(), it.getMethod()));
+	}
+
+	@Value
+	private static class DescriptorKey {
+
+		HttpMethod httpMethod;
+		Method method;
 	}
 }
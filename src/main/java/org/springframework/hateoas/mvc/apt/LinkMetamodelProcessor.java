@@ -0,0 +1,686 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc.apt;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+import org.springframework.web.bind.annotation.ValueConstants;
+
+/**
+ * Annotation processor to generate a static, reflection-free link factory for Spring MVC controllers. For a controller
+ * {@code CustomerController} it generates a {@code CustomerControllerLinks} class in the same package exposing a static
+ * method per handler method that returns a {@link org.springframework.hateoas.mvc.ControllerLinkBuilder}:
+ *
+ * <pre>
+ * &#64;RequestMapping("/customers")
+ * class CustomerController {
+ *
+ *   &#64;GetMapping("/{id}")
+ *   HttpEntity&lt;Customer&gt; show(&#64;PathVariable Long id) { … }
+ * }
+ *
+ * Link link = CustomerControllerLinks.show(42L).withSelfRel();
+ * </pre>
+ *
+ * The processor considers all types declaring handler methods, i.e. {@code @RequestMapping} annotated controllers as
+ * well as the ones additionally annotated with {@code @ExposesResourceFor}. Only mappings declared on the type itself
+ * are considered. Parameters annotated with
+ * {@code @PathVariable} or {@code @RequestParam} are carried over to the generated methods, template variables not
+ * backed by a method parameter (e.g. the ones declared in the type-level mapping) become additional leading
+ * parameters. Generated methods render {@literal null} arguments the same way
+ * {@link org.springframework.hateoas.mvc.ControllerLinkBuilder#linkTo(Object)} does, e.g. optional request parameters
+ * as template variables. Handler methods using parameter types that cannot be rendered without a
+ * {@link org.springframework.core.convert.ConversionService} are skipped and should be linked to using
+ * {@link org.springframework.hateoas.mvc.ControllerLinkBuilder#linkTo(Object)}.
+ * <p>
+ * The processor is not registered automatically. Activate it by adding it to the compiler configuration, e.g. using
+ * {@code -processor org.springframework.hateoas.mvc.apt.LinkMetamodelProcessor}.
+ *
+ * @since 1.0
+ */
+@SupportedAnnotationTypes("*")
+public class LinkMetamodelProcessor extends AbstractProcessor {
+
+	static final String SUFFIX = "Links";
+
+	private static final String REQUEST_MAPPING = "org.springframework.web.bind.annotation.RequestMapping";
+	private static final String PATH_VARIABLE = "org.springframework.web.bind.annotation.PathVariable";
+	private static final String REQUEST_PARAM = "org.springframework.web.bind.annotation.RequestParam";
+
+	private static final Set<String> MAPPING_ANNOTATIONS = new HashSet<>(Arrays.asList(REQUEST_MAPPING, //
+			"org.springframework.web.bind.annotation.GetMapping", //
+			"org.springframework.web.bind.annotation.PostMapping", //
+			"org.springframework.web.bind.annotation.PutMapping", //
+			"org.springframework.web.bind.annotation.DeleteMapping", //
+			"org.springframework.web.bind.annotation.PatchMapping"));
+
+	private static final Set<String> SIMPLE_TYPES = new HashSet<>(Arrays.asList(String.class.getName(), //
+			CharSequence.class.getName(), Long.class.getName(), Integer.class.getName(), Short.class.getName(),
+			Byte.class.getName(), Double.class.getName(), Float.class.getName(), Boolean.class.getName(),
+			Character.class.getName(), java.math.BigDecimal.class.getName(), java.math.BigInteger.class.getName(),
+			java.util.UUID.class.getName()));
+
+	private final Set<String> processed = new HashSet<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			processType(type);
+		}
+
+		return false;
+	}
+
+	private void processType(TypeElement type) {
+
+		for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+			processType(nested);
+		}
+
+		if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.INTERFACE) {
+			return;
+		}
+
+		String typeName = type.getQualifiedName().toString();
+
+		if (!processed.add(typeName)) {
+			return;
+		}
+
+		AnnotationMirror typeMapping = findAnnotation(type, MAPPING_ANNOTATIONS);
+		List<LinkMethod> methods = new ArrayList<>();
+		Set<String> signatures = new HashSet<>();
+
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+
+			if (method.getModifiers().contains(Modifier.STATIC) || method.getModifiers().contains(Modifier.PRIVATE)) {
+				continue;
+			}
+
+			AnnotationMirror methodMapping = findAnnotation(method, MAPPING_ANNOTATIONS);
+
+			if (methodMapping == null) {
+				continue;
+			}
+
+			String mapping = join(getMapping(typeMapping), getMapping(methodMapping));
+			LinkMethod linkMethod = LinkMethod.of(method, mapping);
+
+			if (linkMethod == null) {
+
+				processingEnv.getMessager().printMessage(Kind.NOTE,
+						"Skipping link factory method as parameters cannot be rendered without a ConversionService.", method);
+				continue;
+			}
+
+			if (!signatures.add(linkMethod.getSignature())) {
+
+				processingEnv.getMessager().printMessage(Kind.NOTE,
+						"Skipping link factory method as a method with the same signature was already generated.", method);
+				continue;
+			}
+
+			methods.add(linkMethod);
+		}
+
+		if (methods.isEmpty()) {
+			return;
+		}
+
+		write(type, methods);
+	}
+
+	private void write(TypeElement type, List<LinkMethod> methods) {
+
+		String packageName = getPackage(type).getQualifiedName().toString();
+		String simpleName = getFlatName(type).concat(SUFFIX);
+		String qualifiedName = packageName.isEmpty() ? simpleName : packageName.concat(".").concat(simpleName);
+
+		StringBuilder source = new StringBuilder();
+
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source.append("import org.springframework.hateoas.core.EncodingUtils;\n");
+		source.append("import org.springframework.hateoas.mvc.ControllerLinkBuilder;\n");
+		source.append("import org.springframework.web.util.UriComponentsBuilder;\n\n");
+		source.append("/**\n * Link factory for {@link ").append(type.getQualifiedName()).append("}.\n *\n");
+		source.append(" * Generated by ").append(getClass().getName()).append(", do not edit.\n */\n");
+		source.append("public final class ").append(simpleName).append(" {\n\n");
+		source.append("\tprivate ").append(simpleName).append("() {}\n");
+
+		for (LinkMethod method : methods) {
+			source.append("\n");
+			method.appendTo(source);
+		}
+
+		source.append("}\n");
+
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+			writer.write(source.toString());
+		} catch (IOException o_O) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					String.format("Could not write link factory %s: %s", qualifiedName, o_O.getMessage()), type);
+		}
+	}
+
+	private static PackageElement getPackage(Element element) {
+
+		Element current = element;
+
+		while (current.getKind() != ElementKind.PACKAGE) {
+			current = current.getEnclosingElement();
+		}
+
+		return (PackageElement) current;
+	}
+
+	private static String getFlatName(TypeElement type) {
+
+		Element enclosing = type.getEnclosingElement();
+
+		return enclosing instanceof TypeElement //
+				? getFlatName((TypeElement) enclosing).concat("_").concat(type.getSimpleName().toString()) //
+				: type.getSimpleName().toString();
+	}
+
+	private static AnnotationMirror findAnnotation(Element element, Set<String> annotationTypes) {
+
+		for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+
+			TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+
+			if (annotationTypes.contains(annotationType.getQualifiedName().toString())) {
+				return mirror;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the first mapping declared in either the {@code value} or {@code path} attribute of the given mapping
+	 * annotation.
+	 *
+	 * @param mapping can be {@literal null}.
+	 * @return the mapping or {@literal null} if none declared.
+	 */
+	private static String getMapping(AnnotationMirror mapping) {
+
+		if (mapping == null) {
+			return null;
+		}
+
+		Object value = getAttribute(mapping, "value");
+		value = value == null ? getAttribute(mapping, "path") : value;
+
+		if (value instanceof List) {
+
+			List<?> values = (List<?>) value;
+			return values.isEmpty() ? null : ((AnnotationValue) values.get(0)).getValue().toString();
+		}
+
+		return value == null ? null : value.toString();
+	}
+
+	private static Object getAttribute(AnnotationMirror mirror, String name) {
+
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues()
+				.entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				return entry.getValue().getValue();
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Joins type and method mapping the same way {@link org.springframework.hateoas.core.AnnotationMappingDiscoverer}
+	 * does.
+	 *
+	 * @param typeMapping can be {@literal null}.
+	 * @param methodMapping can be {@literal null}.
+	 * @return
+	 */
+	static String join(String typeMapping, String methodMapping) {
+
+		String result;
+
+		if (methodMapping == null || methodMapping.isEmpty()) {
+			result = typeMapping;
+		} else if (typeMapping == null || "/".equals(typeMapping)) {
+			result = methodMapping;
+		} else {
+			result = typeMapping.concat("/").concat(methodMapping).replaceAll("/{2,}", "/");
+		}
+
+		if (result == null || result.isEmpty()) {
+			return "/";
+		}
+
+		return result.startsWith("/") ? result : "/".concat(result);
+	}
+
+	private static boolean isSimpleType(TypeMirror type) {
+
+		if (type.getKind().isPrimitive()) {
+			return true;
+		}
+
+		if (type.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+
+		TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+
+		return element.getKind() == ElementKind.ENUM || SIMPLE_TYPES.contains(element.getQualifiedName().toString());
+	}
+
+	private static boolean isCollectionOfSimpleTypes(TypeMirror type) {
+
+		if (type.getKind() != TypeKind.DECLARED) {
+			return false;
+		}
+
+		DeclaredType declaredType = (DeclaredType) type;
+		String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+
+		return Arrays.asList("java.util.Collection", "java.util.List", "java.util.Set").contains(name) //
+				&& declaredType.getTypeArguments().size() == 1 //
+				&& isSimpleType(declaredType.getTypeArguments().get(0));
+	}
+
+	private static String literal(String value) {
+
+		StringBuilder builder = new StringBuilder("\"");
+
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				default:
+					builder.append(c);
+			}
+		}
+
+		return builder.append("\"").toString();
+	}
+
+	private static String valueExpression(String name, TypeMirror type) {
+
+		return type.getKind() == TypeKind.DECLARED
+				&& ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM ? name.concat(".name()") : name;
+	}
+
+	/**
+	 * A single static method of a generated link factory.
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	private static class LinkMethod {
+
+		private final String name;
+		private final List<Segment> segments;
+		private final List<Parameter> parameters;
+		private final List<String> unboundVariables;
+
+		/**
+		 * Creates a {@link LinkMethod} for the given handler method and its full mapping.
+		 *
+		 * @param method must not be {@literal null}.
+		 * @param mapping must not be {@literal null}.
+		 * @return the {@link LinkMethod} or {@literal null} if the method uses unsupported parameter types.
+		 */
+		static LinkMethod of(ExecutableElement method, String mapping) {
+
+			List<Parameter> parameters = new ArrayList<>();
+
+			for (VariableElement element : method.getParameters()) {
+
+				String parameterName = element.getSimpleName().toString();
+				TypeMirror type = element.asType();
+
+				AnnotationMirror pathVariable = findAnnotation(element, Collections.singleton(PATH_VARIABLE));
+
+				if (pathVariable != null) {
+
+					if (!isSimpleType(type)) {
+						return null;
+					}
+
+					parameters.add(new Parameter(parameterName, getVariableName(pathVariable, parameterName), type, true,
+							true, false, false));
+					continue;
+				}
+
+				AnnotationMirror requestParam = findAnnotation(element, Collections.singleton(REQUEST_PARAM));
+
+				if (requestParam != null) {
+
+					boolean collection = isCollectionOfSimpleTypes(type);
+
+					if (!isSimpleType(type) && !collection) {
+						return null;
+					}
+
+					Object required = getAttribute(requestParam, "required");
+					Object defaultValue = getAttribute(requestParam, "defaultValue");
+
+					boolean isOptional = Boolean.FALSE.equals(required);
+					boolean isRequired = !isOptional
+							&& (defaultValue == null || ValueConstants.DEFAULT_NONE.equals(defaultValue));
+
+					parameters.add(new Parameter(parameterName, getVariableName(requestParam, parameterName), type, false,
+							isRequired, isOptional, collection));
+				}
+			}
+
+			List<Segment> segments = parse(mapping);
+			Set<String> boundVariables = parameters.stream() //
+					.filter(it -> it.pathVariable) //
+					.map(it -> it.variableName) //
+					.collect(Collectors.toSet());
+
+			List<String> unboundVariables = segments.stream() //
+					.filter(it -> it.variable) //
+					.map(it -> it.value) //
+					.filter(it -> !boundVariables.contains(it)) //
+					.distinct() //
+					.collect(Collectors.toList());
+
+			return new LinkMethod(method.getSimpleName().toString(), segments, parameters, unboundVariables);
+		}
+
+		/**
+		 * Returns a signature to detect clashes between generated methods.
+		 *
+		 * @return
+		 */
+		String getSignature() {
+
+			StringBuilder builder = new StringBuilder(name).append("(");
+
+			for (int i = 0; i < unboundVariables.size(); i++) {
+				builder.append(Object.class.getName()).append(",");
+			}
+
+			for (Parameter parameter : parameters) {
+				builder.append(parameter.type.toString().replaceAll("<.*>", "")).append(",");
+			}
+
+			return builder.append(")").toString();
+		}
+
+		void appendTo(StringBuilder source) {
+
+			Set<String> names = parameters.stream().map(it -> it.name).collect(Collectors.toSet());
+			Map<String, String> variableParameters = new HashMap<>();
+			List<String> declarations = new ArrayList<>();
+
+			for (String variable : unboundVariables) {
+
+				String parameterName = toIdentifier(variable);
+
+				while (names.contains(parameterName)) {
+					parameterName = parameterName.concat("Variable");
+				}
+
+				names.add(parameterName);
+				variableParameters.put(variable, parameterName);
+				declarations.add("Object ".concat(parameterName));
+			}
+
+			for (Parameter parameter : parameters) {
+				declarations.add(parameter.type.toString().concat(" ").concat(parameter.name));
+			}
+
+			source.append("\tpublic static ControllerLinkBuilder ").append(name).append("(")
+					.append(String.join(", ", declarations)).append(") {\n\n");
+			source.append("\t\tStringBuilder path = new StringBuilder();\n");
+
+			for (Segment segment : segments) {
+
+				if (!segment.variable) {
+					source.append("\t\tpath.append(").append(literal(segment.value)).append(");\n");
+					continue;
+				}
+
+				String template = literal("{".concat(segment.value).concat("}"));
+				Parameter parameter = parameters.stream() //
+						.filter(it -> it.pathVariable && it.variableName.equals(segment.value)) //
+						.findFirst().orElse(null);
+
+				if (parameter == null) {
+
+					String parameterName = variableParameters.get(segment.value);
+
+					source.append("\t\tpath.append(").append(parameterName).append(" == null ? ").append(template)
+							.append(" : EncodingUtils.encodePath(").append(parameterName).append("));\n");
+
+				} else if (parameter.type.getKind().isPrimitive()) {
+
+					source.append("\t\tpath.append(EncodingUtils.encodePath(").append(parameter.name).append("));\n");
+
+				} else {
+
+					source.append("\t\tpath.append(").append(parameter.name).append(" == null ? ").append(template)
+							.append(" : EncodingUtils.encodePath(").append(valueExpression(parameter.name, parameter.type))
+							.append("));\n");
+				}
+			}
+
+			source.append("\n\t\tUriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(path.toString());\n");
+
+			// Unbound optional request parameters are exposed as template variables, just like linkTo(methodOn(…)) does
+			boolean optionalParameters = parameters.stream() //
+					.anyMatch(it -> it.optional && !it.type.getKind().isPrimitive());
+
+			if (optionalParameters) {
+				source.append("\t\tjava.util.List<String> optionalParameters = new java.util.ArrayList<>();\n");
+			}
+
+			for (Parameter parameter : parameters) {
+
+				if (parameter.pathVariable) {
+					continue;
+				}
+
+				String key = literal(parameter.variableName);
+
+				if (parameter.type.getKind().isPrimitive()) {
+
+					source.append("\n\t\tbuilder.queryParam(").append(key).append(", EncodingUtils.encodeParameter(")
+							.append(parameter.name).append("));\n");
+					continue;
+				}
+
+				source.append("\n\t\tif (").append(parameter.name).append(" != null) {\n");
+
+				if (parameter.collection) {
+
+					source.append("\t\t\tfor (Object value : ").append(parameter.name).append(") {\n");
+					source.append("\t\t\t\tbuilder.queryParam(").append(key).append(", EncodingUtils.encodeParameter(value));\n");
+					source.append("\t\t\t}\n");
+
+				} else {
+
+					source.append("\t\t\tbuilder.queryParam(").append(key).append(", EncodingUtils.encodeParameter(")
+							.append(valueExpression(parameter.name, parameter.type)).append("));\n");
+				}
+
+				source.append("\t\t}");
+
+				if (parameter.required) {
+					source.append(" else {\n\t\t\tbuilder.queryParam(").append(key).append(", ")
+							.append(literal("{".concat(parameter.variableName).concat("}"))).append(");\n\t\t}");
+				} else if (parameter.optional) {
+					source.append(" else {\n\t\t\toptionalParameters.add(").append(key).append(");\n\t\t}");
+				}
+
+				source.append("\n");
+			}
+
+			source.append(optionalParameters //
+					? "\n\t\treturn ControllerLinkBuilder.of(builder, optionalParameters);\n\t}\n" //
+					: "\n\t\treturn ControllerLinkBuilder.of(builder);\n\t}\n");
+		}
+
+		private static String getVariableName(AnnotationMirror annotation, String fallback) {
+
+			Object value = getAttribute(annotation, "value");
+			value = value == null || value.toString().isEmpty() ? getAttribute(annotation, "name") : value;
+
+			return value == null || value.toString().isEmpty() ? fallback : value.toString();
+		}
+
+		private static String toIdentifier(String variable) {
+
+			StringBuilder builder = new StringBuilder();
+
+			for (char c : variable.toCharArray()) {
+				builder.append(builder.length() == 0 ? Character.isJavaIdentifierStart(c) ? c : '_'
+						: Character.isJavaIdentifierPart(c) ? c : '_');
+			}
+
+			String result = builder.toString();
+
+			return result.isEmpty() || SourceVersion.isKeyword(result) ? "_".concat(result) : result;
+		}
+
+		/**
+		 * Parses the given mapping into literal and variable segments. Regular expressions declared for variables (e.g.
+		 * {@code {id:\d+}}) are dropped.
+		 *
+		 * @param mapping must not be {@literal null}.
+		 * @return
+		 */
+		private static List<Segment> parse(String mapping) {
+
+			List<Segment> segments = new ArrayList<>();
+			StringBuilder current = new StringBuilder();
+			int depth = 0;
+
+			for (char c : mapping.toCharArray()) {
+
+				if (c == '{') {
+
+					if (depth++ == 0) {
+
+						if (current.length() > 0) {
+							segments.add(new Segment(current.toString(), false));
+						}
+
+						current = new StringBuilder();
+						continue;
+					}
+
+				} else if (c == '}' && depth > 0 && --depth == 0) {
+
+					String variable = current.toString();
+					int colon = variable.indexOf(':');
+
+					segments.add(new Segment(colon == -1 ? variable.trim() : variable.substring(0, colon).trim(), true));
+					current = new StringBuilder();
+					continue;
+				}
+
+				current.append(c);
+			}
+
+			if (current.length() > 0) {
+				segments.add(new Segment(current.toString(), false));
+			}
+
+			return segments;
+		}
+	}
+
+	/**
+	 * A handler method parameter carried over to a generated link factory method.
+	 */
+	@RequiredArgsConstructor
+	private static class Parameter {
+
+		private final String name;
+		private final String variableName;
+		private final TypeMirror type;
+		private final boolean pathVariable;
+		private final boolean required;
+		private final boolean optional;
+		private final boolean collection;
+	}
+
+	/**
+	 * A literal or variable segment of a mapping.
+	 */
+	@RequiredArgsConstructor
+	private static class Segment {
+
+		private final String value;
+		private final boolean variable;
+	}
+}
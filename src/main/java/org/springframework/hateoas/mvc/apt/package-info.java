@@ -0,0 +1,4 @@
+/**
+ * Annotation processor to generate reflection-free link factories for Spring MVC controllers.
+ */
+package org.springframework.hateoas.mvc.apt;
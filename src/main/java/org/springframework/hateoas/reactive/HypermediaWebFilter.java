@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * {@link WebFilter} to expose the current {@link ServerWebExchange} in the Reactor subscriber context so that
+ * {@link WebFluxLinkBuilder#linkTo(Object)} can derive the base URI of the links to be built from it.
+ *
+ * @since 1.0
+ */
+public class HypermediaWebFilter implements WebFilter {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.server.WebFilter#filter(org.springframework.web.server.ServerWebExchange, org.springframework.web.server.WebFilterChain)
+	 */
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+
+		return chain.filter(exchange) //
+				.subscriberContext(context -> context.put(WebFluxLinkBuilder.EXCHANGE_CONTEXT_ATTRIBUTE, exchange));
+	}
+}
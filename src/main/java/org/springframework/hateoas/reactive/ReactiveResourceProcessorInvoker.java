@@ -0,0 +1,300 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+import org.springframework.util.Assert;
+
+/**
+ * Component to apply {@link ResourceProcessor}s and {@link ReactiveResourceProcessor}s to the {@link ResourceSupport}
+ * instances emitted by {@link Mono}s and {@link Flux}es. The synchronous {@link ResourceProcessor}s are applied first
+ * using a {@link ResourceProcessorInvoker}, the {@link ReactiveResourceProcessor}s afterwards without blocking. For
+ * {@link Resources}, the processors are applied to the elements first.
+ *
+ * @since 1.0
+ */
+public class ReactiveResourceProcessorInvoker {
+
+	private static final ResolvableType RESOURCES_TYPE = ResolvableType.forRawClass(Resources.class);
+	private final ResourceProcessorInvoker invoker;
+	private final List<ProcessorWrapper> processors;
+
+	/**
+	 * Creates a new {@link ReactiveResourceProcessorInvoker} for the given {@link ResourceProcessorInvoker} and
+	 * {@link ReactiveResourceProcessor}s.
+	 *
+	 * @param invoker the {@link ResourceProcessorInvoker} to apply synchronous {@link ResourceProcessor}s, must not be
+	 *          {@literal null}.
+	 * @param processors the {@link ReactiveResourceProcessor}s to be considered, must not be {@literal null}.
+	 */
+	public ReactiveResourceProcessorInvoker(ResourceProcessorInvoker invoker,
+			Collection<? extends ReactiveResourceProcessor<?>> processors) {
+
+		Assert.notNull(invoker, "ResourceProcessorInvoker must not be null!");
+		Assert.notNull(processors, "ReactiveResourceProcessors must not be null!");
+
+		List<ReactiveResourceProcessor<?>> sorted = new ArrayList<>(processors);
+		AnnotationAwareOrderComparator.sort(sorted);
+
+		List<ProcessorWrapper> wrappers = new ArrayList<>(sorted.size());
+
+		for (ReactiveResourceProcessor<?> processor : sorted) {
+			wrappers.add(new ProcessorWrapper(processor));
+		}
+
+		this.invoker = invoker;
+		this.processors = Collections.unmodifiableList(wrappers);
+	}
+
+	/**
+	 * Applies all processors registered for the given reference type to the value emitted by the given {@link Mono}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param referenceType must not be {@literal null}.
+	 * @return
+	 */
+	public <T extends ResourceSupport> Mono<T> invokeProcessorsFor(Mono<T> source, ResolvableType referenceType) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(referenceType, "Reference type must not be null!");
+
+		return source.flatMap(it -> invokeProcessorsFor(it, referenceType));
+	}
+
+	/**
+	 * Applies all processors registered for the given element type to every value emitted by the given {@link Flux}
+	 * preserving the order of the elements.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param elementType must not be {@literal null}.
+	 * @return
+	 */
+	public <T extends ResourceSupport> Flux<T> invokeProcessorsFor(Flux<T> source, ResolvableType elementType) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(elementType, "Element type must not be null!");
+
+		return source.concatMap(it -> invokeProcessorsFor(it, elementType));
+	}
+
+	/**
+	 * Applies all processors registered for the type of the given value and reference type.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param referenceType must not be {@literal null}.
+	 * @return
+	 */
+	public <T extends ResourceSupport> Mono<T> invokeProcessorsFor(T value, ResolvableType referenceType) {
+
+		Assert.notNull(value, "Value must not be null!");
+		Assert.notNull(referenceType, "Reference type must not be null!");
+
+		ResolvableType type = getTargetType(value, referenceType);
+		T processed = invoker.invokeProcessorsFor(value, type);
+
+		if (processors.isEmpty()) {
+			return Mono.just(processed);
+		}
+
+		Mono<T> result = RESOURCES_TYPE.isAssignableFrom(type) //
+				? processElements(processed) //
+				: Mono.just(processed);
+
+		return result.flatMap(it -> applyProcessors(it, type));
+	}
+
+	/**
+	 * Applies the {@link ReactiveResourceProcessor}s to the elements of the given {@link Resources}. In case the
+	 * processors replaced any of the elements, a new {@link Resources} instance carrying the processed elements and the
+	 * original links is returned.
+	 *
+	 * @param resources must not be {@literal null}.
+	 * @return
+	 */
+	private <T> Mono<T> processElements(T resources) {
+
+		List<?> original = new ArrayList<>(((Resources<?>) resources).getContent());
+
+		return Flux.fromIterable(original) //
+				.concatMap(it -> applyProcessors(it, ResolvableType.forClass(it.getClass()))) //
+				.collectList() //
+				.map(it -> isSameElements(original, it) ? resources : withContent(resources, it));
+	}
+
+	private static boolean isSameElements(List<?> original, List<?> processed) {
+
+		if (original.size() != processed.size()) {
+			return false;
+		}
+
+		for (int i = 0; i < original.size(); i++) {
+			if (original.get(i) != processed.get(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Re-creates the given {@link Resources} or {@link PagedResources} with the given content.
+	 *
+	 * @param resources must not be {@literal null}.
+	 * @param content must not be {@literal null}.
+	 * @return
+	 * @throws IllegalStateException in case the given resources are of a custom {@link Resources} type we can't
+	 *           re-create.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T withContent(T resources, List<Object> content) {
+
+		Class<?> type = resources.getClass();
+
+		if (Resources.class.equals(type)) {
+			return (T) new Resources<>(content, ((Resources<?>) resources).getLinks());
+		}
+
+		if (PagedResources.class.equals(type)) {
+
+			PagedResources<?> paged = (PagedResources<?>) resources;
+			return (T) new PagedResources<>(content, paged.getMetadata(), paged.getLinks());
+		}
+
+		throw new IllegalStateException(String.format(
+				"ReactiveResourceProcessors replaced elements of %s but we can't re-create instances of that type! Make sure the processors for its elements return the given instance.",
+				type.getName()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Mono<T> applyProcessors(T value, ResolvableType type) {
+
+		Mono<Object> result = Mono.just(value);
+
+		for (ProcessorWrapper wrapper : processors) {
+			result = result.flatMap(it -> wrapper.supports(type, it) ? wrapper.invokeProcessor(it) : Mono.just(it));
+		}
+
+		return (Mono<T>) result;
+	}
+
+	/**
+	 * Returns the given reference type or the type of the given value in case it's more specific.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param referenceType must not be {@literal null}.
+	 * @return
+	 */
+	private static ResolvableType getTargetType(Object value, ResolvableType referenceType) {
+
+		ResolvableType valueType = ResolvableType.forClass(value.getClass());
+
+		return getRawType(referenceType).equals(getRawType(valueType)) ? referenceType : valueType;
+	}
+
+	private static Class<?> getRawType(ResolvableType type) {
+
+		Class<?> rawType = type.getRawClass();
+		return rawType == null ? Object.class : rawType;
+	}
+
+	/**
+	 * A {@link ReactiveResourceProcessor} alongside the type of {@link ResourceSupport} it's supposed to be invoked for.
+	 * Peeks into the content of {@link Resource}s and {@link Resources} to determine whether it matches.
+	 */
+	private static class ProcessorWrapper {
+
+		private final ReactiveResourceProcessor<?> processor;
+		private final ResolvableType targetType;
+
+		ProcessorWrapper(ReactiveResourceProcessor<?> processor) {
+
+			this.processor = processor;
+			this.targetType = ResolvableType.forClass(ReactiveResourceProcessor.class, processor.getClass()).getGeneric(0);
+		}
+
+		boolean supports(ResolvableType type, Object value) {
+
+			if (!getRawType(targetType).isAssignableFrom(getRawType(type))) {
+				return false;
+			}
+
+			if (value instanceof Resource) {
+				return isValueTypeMatch((Resource<?>) value, targetType.as(Resource.class));
+			}
+
+			if (value instanceof Resources) {
+				return isValueTypeMatch((Resources<?>) value, targetType.as(Resources.class));
+			}
+
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		Mono<Object> invokeProcessor(Object value) {
+			return ((ReactiveResourceProcessor<ResourceSupport>) processor).process((ResourceSupport) value)
+					.cast(Object.class);
+		}
+
+		private static boolean isValueTypeMatch(Resource<?> resource, ResolvableType target) {
+
+			Object content = resource.getContent();
+			ResolvableType contentType = target.getGeneric(0);
+
+			return content != null && (contentType.resolve() == null || contentType.isAssignableFrom(content.getClass()));
+		}
+
+		private static boolean isValueTypeMatch(Resources<?> resources, ResolvableType target) {
+
+			ResolvableType elementType = target.getGeneric(0);
+
+			if (elementType.resolve() == null) {
+				return true;
+			}
+
+			Collection<?> content = resources.getContent();
+
+			if (content.isEmpty()) {
+				return false;
+			}
+
+			Object element = content.iterator().next();
+
+			if (element instanceof Resource) {
+				return isValueTypeMatch((Resource<?>) element, elementType.as(Resource.class));
+			} else if (element instanceof EmbeddedWrapper) {
+				return getRawType(elementType).isAssignableFrom(((EmbeddedWrapper) element).getRelTargetType());
+			}
+
+			return elementType.isInstance(element);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * {@link HandlerResultHandler} to post-process the {@link ResourceSupport} instances emitted by {@link Mono}s and
+ * {@link Flux}es returned from Spring WebFlux controllers using a {@link ReactiveResourceProcessorInvoker} before
+ * handing them to the given delegate {@link HandlerResultHandler}. It's ordered right before the delegate to take
+ * precedence over it. The delegate can be looked up lazily so that the handler can be registered alongside the one it
+ * decorates. Without a delegate, no results are supported.
+ *
+ * @since 1.0
+ */
+public class ResourceProcessorHandlerResultHandler implements HandlerResultHandler, Ordered {
+
+	private static final ResolvableType RESOURCE_SUPPORT_TYPE = ResolvableType.forRawClass(ResourceSupport.class);
+
+	private final Supplier<? extends HandlerResultHandler> delegate;
+	private final ReactiveResourceProcessorInvoker invoker;
+
+	/**
+	 * Creates a new {@link ResourceProcessorHandlerResultHandler} for the given delegate and
+	 * {@link ReactiveResourceProcessorInvoker}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 */
+	public ResourceProcessorHandlerResultHandler(HandlerResultHandler delegate, ReactiveResourceProcessorInvoker invoker) {
+		this(lookupOf(delegate), invoker);
+	}
+
+	/**
+	 * Creates a new {@link ResourceProcessorHandlerResultHandler} for the given lookup of the delegate and
+	 * {@link ReactiveResourceProcessorInvoker}.
+	 *
+	 * @param delegate must not be {@literal null}, the lookup might return {@literal null} though.
+	 * @param invoker must not be {@literal null}.
+	 */
+	public ResourceProcessorHandlerResultHandler(Supplier<? extends HandlerResultHandler> delegate,
+			ReactiveResourceProcessorInvoker invoker) {
+
+		Assert.notNull(delegate, "Delegate lookup must not be null!");
+		Assert.notNull(invoker, "ReactiveResourceProcessorInvoker must not be null!");
+
+		this.delegate = delegate;
+		this.invoker = invoker;
+	}
+
+	private static Supplier<HandlerResultHandler> lookupOf(HandlerResultHandler delegate) {
+
+		Assert.notNull(delegate, "Delegate HandlerResultHandler must not be null!");
+
+		return () -> delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.HandlerResultHandler#supports(org.springframework.web.reactive.HandlerResult)
+	 */
+	@Override
+	public boolean supports(HandlerResult result) {
+
+		HandlerResultHandler delegate = this.delegate.get();
+
+		return delegate != null && delegate.supports(result);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.HandlerResultHandler#handleResult(org.springframework.web.server.ServerWebExchange, org.springframework.web.reactive.HandlerResult)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+
+		HandlerResultHandler delegate = this.delegate.get();
+
+		Assert.state(delegate != null, "No delegate HandlerResultHandler available!");
+
+		Object value = result.getReturnValue();
+		ResolvableType elementType = result.getReturnType().getGeneric(0);
+
+		// No post-processable type found - proceed with delegate
+		if (!(value instanceof Mono || value instanceof Flux) || !RESOURCE_SUPPORT_TYPE.isAssignableFrom(elementType)) {
+			return delegate.handleResult(exchange, result);
+		}
+
+		Object processed = value instanceof Mono //
+				? invoker.invokeProcessorsFor((Mono<ResourceSupport>) value, elementType) //
+				: invoker.invokeProcessorsFor((Flux<ResourceSupport>) value, elementType);
+
+		return delegate.handleResult(exchange,
+				new HandlerResult(result.getHandler(), processed, result.getReturnTypeSource(), result.getBindingContext()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+
+		HandlerResultHandler delegate = this.delegate.get();
+		int order = delegate instanceof Ordered ? ((Ordered) delegate).getOrder() : Ordered.LOWEST_PRECEDENCE;
+
+		return order == Ordered.HIGHEST_PRECEDENCE ? order : order - 1;
+	}
+}
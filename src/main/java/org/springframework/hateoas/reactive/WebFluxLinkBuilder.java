@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.mvc.ControllerLinkBuilder;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.Assert;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Builder to ease building {@link Link} instances pointing to Spring WebFlux controllers. Other than
+ * {@link ControllerLinkBuilder#linkTo(Object)} it doesn't rely on the thread bound Servlet request but derives the base
+ * URI from a {@link ServerWebExchange}, either handed in explicitly or obtained from the Reactor subscriber context
+ * populated by {@link HypermediaWebFilter}.
+ *
+ * <pre>
+ * Mono&lt;Link&gt; link = linkTo(methodOn(CustomerController.class).showAddresses(2L)).withRel("addresses");
+ * </pre>
+ *
+ * @since 1.0
+ */
+public class WebFluxLinkBuilder {
+
+	static final Class<ServerWebExchange> EXCHANGE_CONTEXT_ATTRIBUTE = ServerWebExchange.class;
+	private static final String BASE_URI_ATTRIBUTE = WebFluxLinkBuilder.class.getName() + ".BASE_URI";
+	private static final UriComponents RELATIVE_BASE_URI = UriComponentsBuilder.fromPath("/").build();
+	private static final ControllerLinkBuilderFactory FACTORY = new ControllerLinkBuilderFactory();
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} pointing to a controller method using the base URI derived from the given
+	 * {@link ServerWebExchange}. Hand in a dummy method invocation result you can create via
+	 * {@link #methodOn(Class, Object...)} or {@link DummyInvocationUtils#methodOn(Class, Object...)}.
+	 *
+	 * @param invocationValue must not be {@literal null}.
+	 * @param exchange must not be {@literal null}.
+	 * @return
+	 */
+	public static ControllerLinkBuilder linkTo(Object invocationValue, ServerWebExchange exchange) {
+
+		Assert.notNull(exchange, "ServerWebExchange must not be null!");
+
+		return FACTORY.linkTo(invocationValue, getBaseUri(exchange));
+	}
+
+	/**
+	 * Creates a {@link WebFluxLink} pointing to a controller method. The base URI is resolved from the
+	 * {@link ServerWebExchange} contained in the Reactor subscriber context once the returned {@link Mono}s are
+	 * subscribed to. Falls back to relative URIs in case no exchange can be found.
+	 *
+	 * @param invocationValue must not be {@literal null}.
+	 * @return
+	 * @see HypermediaWebFilter
+	 */
+	public static WebFluxLink linkTo(Object invocationValue) {
+
+		Assert.notNull(invocationValue, "Invocation value must not be null!");
+
+		return new WebFluxLink(invocationValue);
+	}
+
+	/**
+	 * Wrapper for {@link DummyInvocationUtils#methodOn(Class, Object...)} to be available in case you work with static
+	 * imports of {@link WebFluxLinkBuilder}.
+	 *
+	 * @param controller must not be {@literal null}.
+	 * @param parameters parameters to extend template variables in the type level mapping.
+	 * @return
+	 */
+	public static <T> T methodOn(Class<T> controller, Object... parameters) {
+		return DummyInvocationUtils.methodOn(controller, parameters);
+	}
+
+	/**
+	 * Returns the base URI for the given {@link ServerWebExchange}, i.e. the scheme, host, port and context path of the
+	 * request, taking forwarding headers into account. It's calculated once per exchange and kept as exchange attribute
+	 * so that all links built while processing the request can be derived from it.
+	 *
+	 * @param exchange must not be {@literal null}.
+	 * @return
+	 */
+	public static UriComponents getBaseUri(ServerWebExchange exchange) {
+
+		Assert.notNull(exchange, "ServerWebExchange must not be null!");
+
+		return (UriComponents) exchange.getAttributes().computeIfAbsent(BASE_URI_ATTRIBUTE,
+				it -> createBaseUri(exchange.getRequest()));
+	}
+
+	private static UriComponents createBaseUri(ServerHttpRequest request) {
+
+		return UriComponentsBuilder.fromHttpRequest(request) //
+				.replacePath(request.getPath().contextPath().value()) //
+				.replaceQuery(null) //
+				.fragment(null) //
+				.build();
+	}
+
+	/**
+	 * A link to a controller method to be built once the base URI is known.
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class WebFluxLink {
+
+		private final Object invocationValue;
+
+		/**
+		 * Returns a {@link Mono} of the {@link ControllerLinkBuilder} to e.g. further customize the URI.
+		 *
+		 * @return
+		 */
+		public Mono<ControllerLinkBuilder> toMono() {
+
+			return Mono.subscriberContext() //
+					.map(context -> context.hasKey(EXCHANGE_CONTEXT_ATTRIBUTE) //
+							? getBaseUri(context.get(EXCHANGE_CONTEXT_ATTRIBUTE)) //
+							: RELATIVE_BASE_URI) //
+					.map(baseUri -> FACTORY.linkTo(invocationValue, baseUri));
+		}
+
+		/**
+		 * Returns a {@link Mono} of the {@link Link} created by applying the given function to the
+		 * {@link ControllerLinkBuilder}.
+		 *
+		 * @param finisher must not be {@literal null}.
+		 * @return
+		 */
+		public Mono<Link> toMono(Function<ControllerLinkBuilder, Link> finisher) {
+
+			Assert.notNull(finisher, "Finisher must not be null!");
+
+			return toMono().map(finisher);
+		}
+
+		/**
+		 * Returns a {@link Mono} of the {@link Link} with the given rel.
+		 *
+		 * @param rel must not be {@literal null} or empty.
+		 * @return
+		 */
+		public Mono<Link> withRel(String rel) {
+			return toMono(it -> it.withRel(rel));
+		}
+
+		/**
+		 * Returns a {@link Mono} of the {@link Link} with a self rel.
+		 *
+		 * @return
+		 */
+		public Mono<Link> withSelfRel() {
+			return toMono(ControllerLinkBuilder::withSelfRel);
+		}
+	}
+}
@@ -0,0 +1,5 @@
+/**
+ * Spring WebFlux helper classes to build {@link org.springframework.hateoas.Link}s and post-process
+ * {@link org.springframework.hateoas.ResourceSupport} types.
+ */
+package org.springframework.hateoas.reactive;
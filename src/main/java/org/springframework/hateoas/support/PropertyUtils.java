@@ -22,6 +22,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.hateoas.Resource;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ReflectionUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -47,6 +49,8 @@ public class PropertyUtils {
 		add("class");
 		add("links");
 	}};
+
+	private static final Map<Class<?>, List<String>> PROPERTY_NAMES = new ConcurrentReferenceHashMap<>();
 	
 	public static Map<String, Object> findProperties(Object object) {
 
@@ -78,14 +82,22 @@ public class PropertyUtils {
 		}
 	}
 
+	/**
+	 * Returns the names of the properties of the given type that are not ignored. The result is cached per type as it
+	 * only depends on the type's structure.
+	 *
+	 * @param clazz must not be {@literal null}.
+	 * @return an immutable {@link List}, will never be {@literal null}.
+	 */
 	public static List<String> findProperties(Class<?> clazz) {
 
-		return Arrays.asList(BeanUtils.getPropertyDescriptors(clazz)).stream()
-			.filter(descriptor -> !FIELDS_TO_IGNORE.contains(descriptor.getName()))
-			.filter(descriptor -> hasJsonIgnoreOnTheField(clazz, descriptor))
-			.filter(PropertyUtils::hasJsonIgnoreOnTheReader)
-			.map(FeatureDescriptor::getName)
-			.collect(Collectors.toList());
+		return PROPERTY_NAMES.computeIfAbsent(clazz, it -> Collections.unmodifiableList( //
+			Arrays.asList(BeanUtils.getPropertyDescriptors(it)).stream()
+				.filter(descriptor -> !FIELDS_TO_IGNORE.contains(descriptor.getName()))
+				.filter(descriptor -> hasJsonIgnoreOnTheField(it, descriptor))
+				.filter(PropertyUtils::hasJsonIgnoreOnTheReader)
+				.map(FeatureDescriptor::getName)
+				.collect(Collectors.toList())));
 	}
 
 	public static Object createObjectFromProperties(Class<?> clazz, Map<String, Object> properties) {
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link StreamingResources}.
+ */
+public class StreamingResourcesUnitTest {
+
+	@Test
+	public void peeksIntoContentWithoutConsumingIt() {
+
+		StreamingResources<String> resources = StreamingResources.of(Arrays.asList("foo", "bar").iterator());
+
+		assertThat(resources.peek()).hasValue("foo");
+		assertThat(resources).containsExactly("foo", "bar");
+	}
+
+	@Test
+	public void exposesEmptyContent() {
+
+		StreamingResources<String> resources = StreamingResources.of(Stream.empty());
+
+		assertThat(resources.peek()).isEmpty();
+		assertThat(resources).isEmpty();
+	}
+
+	@Test
+	public void closesStreamOnceConsumed() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		StreamingResources<String> resources = StreamingResources.of(Stream.of("foo").onClose(() -> closed.set(true)));
+
+		assertThat(resources).containsExactly("foo");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	public void closesStreamIfNotConsumed() {
+
+		AtomicInteger closed = new AtomicInteger();
+		StreamingResources<String> resources = StreamingResources
+				.of(Stream.of("foo", "bar").onClose(closed::incrementAndGet));
+
+		assertThat(resources.peek()).hasValue("foo");
+
+		resources.close();
+		resources.close();
+
+		assertThat(closed.get()).isEqualTo(1);
+		assertThatIllegalStateException().isThrownBy(resources::iterator);
+	}
+
+	@Test
+	public void rendersContentWithoutHypermediaModule() throws Exception {
+
+		AtomicBoolean closed = new AtomicBoolean();
+		StreamingResources<String> resources = StreamingResources
+				.of(Stream.of("foo", "bar").onClose(() -> closed.set(true)), new Link("localhost"));
+
+		assertThat(new ObjectMapper().writeValueAsString(resources))
+				.isEqualTo("{\"links\":[{\"rel\":\"self\",\"href\":\"localhost\"}],\"content\":[\"foo\",\"bar\"]}");
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	public void rejectsSecondIteration() {
+
+		StreamingResources<String> resources = StreamingResources.of(Stream.of("foo"));
+		resources.forEach(it -> {});
+
+		assertThatIllegalStateException().isThrownBy(resources::iterator);
+	}
+
+	@Test
+	public void toStringDoesNotConsumeContent() {
+
+		StreamingResources<String> resources = StreamingResources.of(Stream.of("foo"), new Link("/foo"));
+
+		assertThat(resources.toString()).contains("/foo");
+		assertThat(resources.peek()).hasValue("foo");
+	}
+}
@@ -326,6 +326,110 @@ public class UriTemplateUnitTest {
 		assertThat(expandedTemplate).isEqualTo("/foo?bar=barExpanded&foobar=singleValue");
 	}
 
+	@Test
+	public void discoversVariablesForAllOperators() {
+
+		UriTemplate template = new UriTemplate("/foo{+path}{.format}{;matrix}");
+
+		assertVariables(template, new TemplateVariable("path", VariableType.RESERVED_STRING),
+				new TemplateVariable("format", VariableType.LABEL),
+				new TemplateVariable("matrix", VariableType.PATH_STYLE_PARAMETER));
+		assertThat(template.toString()).isEqualTo("/foo{+path}{.format}{;matrix}");
+	}
+
+	@Test
+	public void expandsOperatorsAndModifiersAsDefinedByRfc6570() {
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("path", "/foo/bar");
+		parameters.put("var", "value");
+		parameters.put("hello", "Hello World!");
+		parameters.put("list", Arrays.asList("red", "green", "blue"));
+
+		assertThat(new UriTemplate("{+path}/here").expand(parameters).toString()).isEqualTo("/foo/bar/here");
+		assertThat(new UriTemplate("/{hello}").expand(parameters).toString()).isEqualTo("/Hello%20World!");
+		assertThat(new UriTemplate("/{var:3}").expand(parameters).toString()).isEqualTo("/val");
+		assertThat(new UriTemplate("/x{.list*}").expand(parameters).toString()).isEqualTo("/x.red.green.blue");
+		assertThat(new UriTemplate("/x{/list*}").expand(parameters).toString()).isEqualTo("/x/red/green/blue");
+		assertThat(new UriTemplate("/x{;list}").expand(parameters).toString()).isEqualTo("/x;list=red,green,blue");
+		assertThat(new UriTemplate("/x{?var,list}").expand(parameters).toString())
+				.isEqualTo("/x?var=value&list=red,green,blue");
+		assertThat(new UriTemplate("/x{#path}").expand(parameters).toString()).isEqualTo("/x#/foo/bar");
+	}
+
+	@Test
+	public void appliesPositionalParametersInOrderOfVariables() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}{?page,size}");
+
+		assertThat(template.expand(1, 2, 3).toString()).isEqualTo("/foo/1?page=2&size=3");
+	}
+
+	@Test
+	public void doesNotConsiderSpringMvcStyleVariableWithRegexATemplateVariable() {
+
+		UriTemplate template = new UriTemplate("/foo/{id:\\d+}{?page}");
+
+		assertVariables(template, new TemplateVariable("page", VariableType.REQUEST_PARAM));
+		assertThat(template.toString()).isEqualTo("/foo/{id:\\d+}{?page}");
+		assertThat(UriTemplate.isTemplate("/foo/{id:\\d+}")).isFalse();
+	}
+
+	@Test
+	public void keepsPathCharactersOfPathVariablesUnencoded() {
+
+		UriTemplate template = new UriTemplate("/foo/{id}");
+
+		assertThat(template.expand("a/b").toString()).isEqualTo("/foo/a/b");
+		assertThat(template.expand("47:11@host").toString()).isEqualTo("/foo/47:11@host");
+		assertThat(template.expand("a;b=c,d+e").toString()).isEqualTo("/foo/a;b=c,d+e");
+		assertThat(template.expand("a b").toString()).isEqualTo("/foo/a%20b");
+	}
+
+	@Test
+	public void encodesRequestParametersLikeSpringsQueryParameterEncoding() {
+
+		UriTemplate template = new UriTemplate("/foo{?q}");
+
+		assertThat(template.expand("a+b").toString()).isEqualTo("/foo?q=a+b");
+		assertThat(template.expand("a/b?c").toString()).isEqualTo("/foo?q=a/b?c");
+		assertThat(template.expand("a&b=c").toString()).isEqualTo("/foo?q=a%26b%3Dc");
+		assertThat(template.expand("a b#c").toString()).isEqualTo("/foo?q=a%20b%23c");
+	}
+
+	@Test
+	public void encodesPathVariablesInQueryLikeRequestParameters() {
+		assertThat(new UriTemplate("/foo?q={q}").expand("a+b&c").toString()).isEqualTo("/foo?q=a+b%26c");
+	}
+
+	@Test
+	public void roundTripsCompositeParameters() {
+
+		UriTemplate template = new UriTemplate(new UriTemplate("/foo{&bar,foobar*}").toString());
+
+		assertVariables(template, new TemplateVariable("bar", VariableType.REQUEST_PARAM_CONTINUED),
+				new TemplateVariable("foobar", VariableType.COMPOSITE_PARAM));
+	}
+
+	@Test
+	public void cachesParsedTemplates() {
+
+		UriTemplate template = UriTemplate.of("/foo/{id}{?page}");
+
+		assertThat(UriTemplate.of("/foo/{id}{?page}")).isSameAs(template);
+		assertThat(template.getVariableNames()).containsExactly("id", "page");
+	}
+
+	@Test
+	public void createsNonTemplatedUriTemplateWithoutParsing() {
+
+		UriTemplate template = UriTemplate.of("/foo?bar=baz");
+
+		assertThat(template.getVariables()).isEmpty();
+		assertThat(template.toString()).isEqualTo("/foo?bar=baz");
+		assertThat(template.expand().toString()).isEqualTo("/foo?bar=baz");
+	}
+
 	private static void assertVariables(UriTemplate template, TemplateVariable... variables) {
 		assertVariables(template, Arrays.asList(variables));
 	}
@@ -23,6 +23,8 @@ import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -34,6 +36,7 @@ import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamingResources;
 import org.springframework.hateoas.hal.SimplePojo;
 import org.springframework.hateoas.support.MappingUtils;
 
@@ -181,6 +184,39 @@ public class Jackson2CollectionJsonIntegrationTest extends AbstractJackson2Marsh
 		assertThat(write(resources)).isEqualTo(MappingUtils.read(new ClassPathResource("resources-with-resource-objects.json", getClass())));
 	}
 
+	@Test
+	public void rendersStreamingResourcesLikeResources() throws Exception {
+
+		StreamingResources<Resource<String>> resources = StreamingResources.of(Stream.of( //
+				new Resource<String>("first", new Link("localhost"), new Link("orders").withRel("orders")), //
+				new Resource<String>("second", new Link("remotehost"), new Link("order").withRel("orders"))), //
+				new Link("localhost"), new Link("/page/2").withRel("next"));
+
+		assertThat(write(resources)).isEqualTo(MappingUtils.read(new ClassPathResource("resources-with-resource-objects.json", getClass())));
+	}
+
+	@Test
+	public void closesStreamingResourcesIfRenderingFails() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		Stream<String> content = Stream.of("first", "second") //
+				.map(it -> {
+
+					if (it.equals("second")) {
+						throw new IllegalStateException("Failed to load second element!");
+					}
+
+					return it;
+				}) //
+				.onClose(() -> closed.set(true));
+
+		StreamingResources<String> resources = StreamingResources.of(content, new Link("localhost"));
+
+		assertThatThrownBy(() -> write(resources)).hasRootCauseInstanceOf(IllegalStateException.class);
+		assertThat(closed).isTrue();
+	}
+
 	@Test
 	public void deserializeResources() throws Exception {
 
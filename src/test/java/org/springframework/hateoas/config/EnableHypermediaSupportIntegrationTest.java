@@ -27,6 +27,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -46,6 +47,8 @@ import org.springframework.hateoas.hal.HalLinkDiscoverer;
 import org.springframework.hateoas.hal.forms.HalFormsConfiguration;
 import org.springframework.hateoas.hal.forms.HalFormsLinkDiscoverer;
 import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.hateoas.reactive.HypermediaWebFilter;
+import org.springframework.hateoas.reactive.ResourceProcessorHandlerResultHandler;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
@@ -58,6 +61,8 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolverComposite;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.result.method.annotation.ResponseBodyResultHandler;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.mvc.method.annotation.AbstractMessageConverterMethodArgumentResolver;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
@@ -405,6 +410,30 @@ public class EnableHypermediaSupportIntegrationTest {
 		});
 	}
 
+	@Test
+	public void registersResourceProcessorHandlerResultHandlerForWebFlux() {
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(WebFluxConfig.class)) {
+
+			assertThat(context.getBean(ResponseBodyResultHandler.class)).isNotNull();
+			assertThat(context.getBeansOfType(HypermediaWebFilter.class)).hasSize(1);
+
+			ResourceProcessorHandlerResultHandler handler = context.getBean(ResourceProcessorHandlerResultHandler.class);
+
+			assertThat(handler.getOrder()).isLessThan(context.getBean(ResponseBodyResultHandler.class).getOrder());
+		}
+	}
+
+	@Test
+	public void doesNotRegisterWebFluxComponentsInServletApplication() {
+
+		withContext(HalConfig.class, context -> {
+
+			assertThat(context.getBeansOfType(HypermediaWebFilter.class)).isEmpty();
+			assertThat(context.getBeansOfType(ResourceProcessorHandlerResultHandler.class)).isEmpty();
+		});
+	}
+
 	private static <E extends Exception> void withContext(Class<?> configuration,
 			ConsumerWithException<AnnotationConfigWebApplicationContext, E> consumer) throws E {
 
@@ -581,4 +610,11 @@ public class EnableHypermediaSupportIntegrationTest {
 	static class AlternateDelegateConfig {
 
 	}
+
+	@EnableWebFlux
+	@Configuration
+	@EnableHypermediaSupport(type = HypermediaType.HAL)
+	static class WebFluxConfig {
+
+	}
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+import org.springframework.hateoas.core.CachingMappingDiscoverer.CacheStatistics;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link CachingMappingDiscoverer}.
+ */
+public class CachingMappingDiscovererUnitTest {
+
+	MappingDiscoverer delegate = spy(new AnnotationMappingDiscoverer(RequestMapping.class));
+	CachingMappingDiscoverer discoverer = new CachingMappingDiscoverer(delegate);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullDelegate() {
+		new CachingMappingDiscoverer(null);
+	}
+
+	@Test
+	public void cachesTypeMappings() {
+
+		assertThat(discoverer.getMapping(SampleController.class)).isEqualTo("/type");
+		assertThat(discoverer.getMapping(SampleController.class)).isEqualTo("/type");
+
+		verify(delegate, times(1)).getMapping(SampleController.class);
+		assertThat(discoverer.getStatistics().get(0)).isEqualTo(new CacheStatistics("type mappings", 1, 1, 1));
+	}
+
+	@Test
+	public void cachesAbsentTypeMappings() {
+
+		assertThat(discoverer.getMapping(Object.class)).isNull();
+		assertThat(discoverer.getMapping(Object.class)).isNull();
+
+		verify(delegate, times(1)).getMapping(Object.class);
+	}
+
+	@Test
+	public void cachesMethodMappingsAndRequestMethods() throws Exception {
+
+		Method method = SampleController.class.getMethod("method");
+
+		assertThat(discoverer.getMapping(method)).isEqualTo("/type/method");
+		assertThat(discoverer.getMapping(SampleController.class, method)).isEqualTo("/type/method");
+		assertThat(discoverer.getRequestMethod(SampleController.class, method)).containsExactly(HttpMethod.GET);
+		assertThat(discoverer.getRequestMethod(SampleController.class, method)).containsExactly(HttpMethod.GET);
+
+		verify(delegate, times(1)).getMapping(SampleController.class, method);
+		verify(delegate, times(1)).getRequestMethod(SampleController.class, method);
+
+		assertThat(discoverer.getStatistics()).extracting(CacheStatistics::getHits).containsExactly(0L, 1L, 1L);
+	}
+
+	@Test
+	public void doesNotCacheLookupsExceedingTheLimit() {
+
+		CachingMappingDiscoverer discoverer = new CachingMappingDiscoverer(delegate, 1);
+
+		discoverer.getMapping(SampleController.class);
+		discoverer.getMapping(Object.class);
+		discoverer.getMapping(Object.class);
+
+		verify(delegate, times(2)).getMapping(Object.class);
+		assertThat(discoverer.getStatistics().get(0).getSize()).isEqualTo(1);
+	}
+
+	@RequestMapping("/type")
+	interface SampleController {
+
+		@GetMapping("/method")
+		void method();
+	}
+}
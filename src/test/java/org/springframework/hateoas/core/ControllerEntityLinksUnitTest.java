@@ -28,6 +28,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.ExposesResourceFor;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.LinkBuilderFactory;
 import org.springframework.hateoas.TestUtils;
@@ -91,6 +92,18 @@ public class ControllerEntityLinksUnitTest extends TestUtils {
 		assertThat(builder.withSelfRel().getHref()).endsWith("/person/1");
 	}
 
+	@Test
+	public void createsLinksToSingleResources() {
+
+		when(linkBuilderFactory.linkTo(SampleController.class, new Object[0])).thenReturn(linkTo(SampleController.class));
+		EntityLinks links = new ControllerEntityLinks(Arrays.asList(SampleController.class), linkBuilderFactory);
+
+		assertThat(links.linkToSingleResource(Person.class, 1L).getHref()).isEqualTo("http://localhost/person/1");
+		assertThat(links.linkToSingleResources(Person.class, Arrays.asList(1L, "foo bar"))) //
+				.extracting(Link::getHref) //
+				.containsExactly("http://localhost/person/1", "http://localhost/person/foo%20bar");
+	}
+
 	@Test
 	public void rejectsUnmanagedEntity() {
 
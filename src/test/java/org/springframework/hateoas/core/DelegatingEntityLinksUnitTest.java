@@ -78,6 +78,18 @@ public class DelegatingEntityLinksUnitTest extends TestUtils {
 		verify(target, times(1)).linkFor(String.class);
 	}
 
+	@Test
+	public void cachesDelegateLookups() {
+
+		EntityLinks links = createDelegatingEntityLinks();
+
+		links.linkFor(String.class);
+		links.linkToSingleResource(String.class, 1L);
+
+		verify(target, times(1)).supports(String.class);
+		verify(target, times(1)).linkToSingleResource(String.class, 1L);
+	}
+
 	private EntityLinks createDelegatingEntityLinks() {
 		return new DelegatingEntityLinks(SimplePluginRegistry.create(Arrays.asList(target)));
 	}
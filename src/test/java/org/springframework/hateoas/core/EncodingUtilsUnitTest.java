@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link EncodingUtils}.
+ */
+public class EncodingUtilsUnitTest {
+
+	@Test
+	public void returnsValuesNotRequiringEncodingAsIs() {
+
+		String source = "some-path_segment:with@chars";
+
+		assertThat(EncodingUtils.encodePath(source)).isSameAs(source);
+		assertThat(EncodingUtils.encodeParameter(source)).isSameAs(source);
+		assertThat(EncodingUtils.encodeFragment(source)).isSameAs(source);
+	}
+
+	@Test
+	public void encodesValuesRequiringEncoding() {
+
+		assertThat(EncodingUtils.encodePath("foo bar")).isEqualTo("foo%20bar");
+		assertThat(EncodingUtils.encodePath("50%")).isEqualTo("50%25");
+		assertThat(EncodingUtils.encodeParameter("foo=bar&baz")).isEqualTo("foo%3Dbar%26baz");
+		assertThat(EncodingUtils.encodeFragment("f#ö")).isEqualTo("f%23%C3%B6");
+	}
+
+	@Test
+	public void encodesIdentifiers() {
+
+		UUID uuid = UUID.randomUUID();
+
+		assertThat(EncodingUtils.encodePath(4711L)).isEqualTo("4711");
+		assertThat(EncodingUtils.encodePath(-42)).isEqualTo("-42");
+		assertThat(EncodingUtils.encodePath(uuid)).isEqualTo(uuid.toString());
+		assertThat(EncodingUtils.encodeParameter(4711L)).isEqualTo("4711");
+		assertThat(EncodingUtils.encodeParameter(uuid)).isEqualTo(uuid.toString());
+	}
+}
@@ -65,6 +65,30 @@ public class LinkBuilderSupportUnitTest extends TestUtils {
 		assertThat(builder.toString()).endsWith("47:11");
 	}
 
+	@Test
+	public void derivedBuildersDoNotAffectEachOther() {
+
+		SampleLinkBuilder builder = new SampleLinkBuilder(UriComponentsBuilder.fromUriString("http://localhost/api"));
+		SampleLinkBuilder customers = builder.slash("customers");
+
+		assertThat(customers.slash("1").slash("orders").toString()).isEqualTo("http://localhost/api/customers/1/orders");
+		assertThat(customers.slash("2").toString()).isEqualTo("http://localhost/api/customers/2");
+		assertThat(customers.toString()).isEqualTo("http://localhost/api/customers");
+		assertThat(builder.toString()).isEqualTo("http://localhost/api");
+	}
+
+	@Test
+	public void isNotAffectedByModificationsOfTheOriginalBuilder() {
+
+		UriComponentsBuilder original = UriComponentsBuilder.fromUriString("http://localhost/api");
+		SampleLinkBuilder builder = new SampleLinkBuilder(original);
+
+		original.path("/customers");
+
+		assertThat(builder.toString()).isEqualTo("http://localhost/api");
+		assertThat(builder.slash("orders").toString()).isEqualTo("http://localhost/api/orders");
+	}
+
 	static class SampleLinkBuilder extends LinkBuilderSupport<SampleLinkBuilder> {
 
 		public SampleLinkBuilder(UriComponentsBuilder builder) {
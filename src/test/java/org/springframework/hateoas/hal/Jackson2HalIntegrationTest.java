@@ -24,6 +24,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -39,10 +42,12 @@ import org.springframework.hateoas.PagedResources.PageMetadata;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.StreamingResources;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.core.AnnotationRelProvider;
 import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.hateoas.hal.HalConfiguration.RenderSingleLinks;
+import org.springframework.hateoas.hal.Jackson2HalModule.EmbeddedMapper;
 import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -179,6 +184,18 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(write(resourceSupport)).isEqualTo(LIST_LINK_REFERENCE);
 	}
 
+	@Test
+	public void groupsLinksByRelationInOrderOfFirstAppearance() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		resourceSupport.add(new Link("first"));
+		resourceSupport.add(new Link("other", "other"));
+		resourceSupport.add(new Link("second"));
+
+		assertThat(write(resourceSupport)).isEqualTo(
+				"{\"_links\":{\"self\":[{\"href\":\"first\"},{\"href\":\"second\"}],\"other\":{\"href\":\"other\"}}}");
+	}
+
 	@Test
 	public void deserializeMultipleLinks() throws Exception {
 
@@ -202,6 +219,56 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(write(resources)).isEqualTo(SIMPLE_EMBEDDED_RESOURCE_REFERENCE);
 	}
 
+	@Test
+	public void rendersStreamingResourcesAsEmbedded() throws Exception {
+
+		StreamingResources<String> resources = StreamingResources.of(Stream.of("first", "second"));
+		resources.add(new Link("localhost"));
+
+		assertThat(write(resources)).isEqualTo(SIMPLE_EMBEDDED_RESOURCE_REFERENCE);
+	}
+
+	@Test
+	public void rendersStreamingResourcesOfResourcesAsEmbedded() throws Exception {
+
+		StreamingResources<Resource<SimplePojo>> resources = StreamingResources.of(setupResources().iterator());
+		resources.add(new Link("localhost"));
+
+		assertThat(write(resources)).isEqualTo(LIST_EMBEDDED_RESOURCE_REFERENCE);
+	}
+
+	@Test
+	public void rendersStreamingResourcesWithSingleElementAsEmbedded() throws Exception {
+
+		StreamingResources<Resource<SimplePojo>> resources = StreamingResources
+				.of(Stream.of(new Resource<>(new SimplePojo("test1", 1), new Link("localhost"))));
+		resources.add(new Link("localhost"));
+
+		assertThat(write(resources)).isEqualTo(SINGLE_EMBEDDED_RESOURCE_REFERENCE);
+	}
+
+	@Test
+	public void closesStreamingResourcesIfRenderingFails() {
+
+		AtomicBoolean closed = new AtomicBoolean();
+
+		Stream<String> content = Stream.of("first", "second", "third") //
+				.map(it -> {
+
+					if (it.equals("third")) {
+						throw new IllegalStateException("Failed to load third element!");
+					}
+
+					return it;
+				}) //
+				.onClose(() -> closed.set(true));
+
+		StreamingResources<String> resources = StreamingResources.of(content, new Link("localhost"));
+
+		assertThatThrownBy(() -> write(resources)).hasRootCauseInstanceOf(IllegalStateException.class);
+		assertThat(closed).isTrue();
+	}
+
 	@Test
 	public void deserializesSimpleResourcesAsEmbedded() throws Exception {
 
@@ -379,6 +446,45 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(getCuriedObjectMapper().writeValueAsString(resources)).isEqualTo(SINGLE_NON_CURIE_LINK);
 	}
 
+	@Test
+	public void mapsCuriedEmbedsOnlyOnceWhenRendering() throws Exception {
+
+		AtomicInteger lookups = new AtomicInteger();
+		AnnotationRelProvider relProvider = new AnnotationRelProvider() {
+
+			@Override
+			public String getCollectionResourceRelFor(Class<?> type) {
+				lookups.incrementAndGet();
+				return super.getCollectionResourceRelFor(type);
+			}
+
+			@Override
+			public String getItemResourceRelFor(Class<?> type) {
+				lookups.incrementAndGet();
+				return super.getItemResourceRelFor(type);
+			}
+		};
+
+		CurieProvider curieProvider = new DefaultCurieProvider("foo", new UriTemplate("http://localhost:8080/rels/{rel}"));
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new HalHandlerInstantiator(relProvider, curieProvider, null));
+
+		Resources<Resource<SimpleAnnotatedPojo>> resources = setupAnnotatedResources();
+		resources.add(new Link("foo"));
+
+		String first = mapper.writeValueAsString(resources);
+		int lookupsForRendering = lookups.getAndSet(0);
+
+		new EmbeddedMapper(relProvider, curieProvider, true).map(resources.getContent());
+
+		assertThat(lookupsForRendering).isEqualTo(lookups.get());
+		assertThat(first).contains("\"foo:pojos\"", "\"curies\"");
+		assertThat(mapper.writeValueAsString(resources)).isEqualTo(first);
+		assertThat(resources.getLinks()).containsExactly(new Link("foo"));
+	}
+
 	/**
 	 * @see #137
 	 */
@@ -410,6 +516,29 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(getCuriedObjectMapper(provider, null).writeValueAsString(resources)).isEqualTo(MULTIPLE_CURIES_DOCUMENT);
 	}
 
+	@Test
+	public void usesNamespacedRelationDerivedFromLinkByCustomCurieProvider() throws Exception {
+
+		CurieProvider provider = new DefaultCurieProvider("foo", new UriTemplate("http://localhost:8080/rels/{rel}")) {
+
+			@Override
+			public String getNamespacedRelFrom(Link link) {
+				return link.getHref().startsWith("/bar") ? "bar:" + link.getRel() : super.getNamespacedRelFrom(link);
+			}
+		};
+
+		ObjectMapper objectMapper = getCuriedObjectMapper(provider, null);
+
+		ResourceSupport first = new ResourceSupport();
+		first.add(new Link("/foo", "myrel"));
+
+		ResourceSupport second = new ResourceSupport();
+		second.add(new Link("/bar", "myrel"));
+
+		assertThat(objectMapper.writeValueAsString(first)).contains("\"foo:myrel\"");
+		assertThat(objectMapper.writeValueAsString(second)).contains("\"bar:myrel\"");
+	}
+
 	/**
 	 * @see #286, #236
 	 */
@@ -442,6 +571,51 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		verifyResolvedTitle("_links.foobar.title");
 	}
 
+	@Test
+	public void cachesMissingTitleLookups() throws Exception {
+
+		AtomicInteger lookups = new AtomicInteger();
+
+		StaticMessageSource messageSource = new StaticMessageSource() {
+
+			@Override
+			protected String resolveCodeWithoutArguments(String code, Locale locale) {
+
+				lookups.incrementAndGet();
+				return super.resolveCodeWithoutArguments(code, locale);
+			}
+		};
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new Jackson2HalModule());
+		objectMapper.setHandlerInstantiator(new HalHandlerInstantiator(new AnnotationRelProvider(), null,
+				new MessageSourceAccessor(messageSource), new HalConfiguration().withCacheLinkTitles(true)));
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new Link("target", "foo"));
+
+		assertThat(objectMapper.writeValueAsString(resource)).isEqualTo("{\"_links\":{\"foo\":{\"href\":\"target\"}}}");
+		assertThat(objectMapper.writeValueAsString(resource)).isEqualTo("{\"_links\":{\"foo\":{\"href\":\"target\"}}}");
+		assertThat(lookups.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void picksUpChangedTitlesByDefault() throws Exception {
+
+		StaticMessageSource messageSource = new StaticMessageSource();
+		ObjectMapper objectMapper = getCuriedObjectMapper(null, messageSource);
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new Link("target", "foo"));
+
+		assertThat(objectMapper.writeValueAsString(resource)).isEqualTo("{\"_links\":{\"foo\":{\"href\":\"target\"}}}");
+
+		messageSource.addMessage("_links.foo.title", LocaleContextHolder.getLocale(), "Foo");
+
+		assertThat(objectMapper.writeValueAsString(resource))
+				.isEqualTo("{\"_links\":{\"foo\":{\"href\":\"target\",\"title\":\"Foo\"}}}");
+	}
+
 	@Test
 	public void rendersSingleLinkAsArrayWhenConfigured() throws Exception {
 
@@ -16,16 +16,21 @@
 package org.springframework.hateoas.mvc;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import org.joda.time.DateTime;
 import org.joda.time.format.ISODateTimeFormat;
 import org.junit.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.MethodParameter;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
@@ -173,6 +178,75 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 		assertThat(link.getHref()).endsWith("/people/17/addresses");
 	}
 
+	@Test
+	public void bindsDifferentArgumentsForRepeatedInvocationsOfTheSameMethod() {
+
+		Link first = factory.linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("first")).withSelfRel();
+		Link second = factory.linkTo(methodOn(ControllerWithMethods.class).methodWithPathVariable("second"))
+				.withSelfRel();
+
+		assertThat(first.getHref()).endsWith("/something/first/foo");
+		assertThat(second.getHref()).endsWith("/something/second/foo");
+	}
+
+	@Test
+	public void reconsidersContributorsAfterReconfiguration() {
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+
+		SpecialType specialType = new SpecialType();
+		specialType.parameterValue = "value";
+
+		assertThat(factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, specialType)).withSelfRel().getHref())
+				.endsWith("/sample/1");
+
+		factory.setUriComponentsContributors(Arrays.asList(new SampleUriComponentsContributor()));
+
+		assertThat(factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, specialType)).withSelfRel().getHref())
+				.endsWith("/sample/1?foo=value");
+	}
+
+	@Test
+	public void checksContributorApplicabilityOncePerMethod() {
+
+		CountingUriComponentsContributor contributor = new CountingUriComponentsContributor();
+		factory.setUriComponentsContributors(Arrays.asList(contributor));
+
+		SpecialType specialType = new SpecialType();
+		specialType.parameterValue = "value";
+
+		factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, specialType)).withSelfRel();
+		int checks = contributor.checks;
+
+		assertThat(factory.linkTo(methodOn(SampleController.class).sampleMethod(2L, specialType)).withSelfRel().getHref())
+				.endsWith("/sample/2?foo=value");
+		assertThat(contributor.checks).isEqualTo(checks);
+	}
+
+	@Test
+	public void convertsCommonIdentifierTypesDirectly() {
+
+		UUID id = UUID.randomUUID();
+
+		Link link = factory.linkTo(methodOn(SampleController.class).sampleMethodWithIdentifiers(id, SampleEnum.VALUE, 42))
+				.withSelfRel();
+
+		assertThat(link.getHref()).endsWith("/sample/" + id + "/VALUE?number=42");
+	}
+
+	@Test
+	public void dropsPlansOnContextRefresh() throws Exception {
+
+		Method method = SampleController.class.getMethod("sampleMethod", Long.class, SpecialType.class);
+		MethodLinkPlan plan = factory.getPlan(SampleController.class, method);
+
+		assertThat(factory.getPlan(SampleController.class, method)).isSameAs(plan);
+
+		factory.onApplicationEvent(new ContextRefreshedEvent(mock(ApplicationContext.class)));
+
+		assertThat(factory.getPlan(SampleController.class, method)).isNotSameAs(plan);
+	}
+
 	interface SampleController {
 
 		@RequestMapping("/sample/{id}")
@@ -186,6 +260,21 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 
 		@RequestMapping("/sample/multivaluemapsupport")
 		HttpEntity<?> sampleMethodWithMap(@RequestParam MultiValueMap<String, String> queryParams);
+
+		@RequestMapping("/sample/{id}/{type}")
+		HttpEntity<?> sampleMethodWithIdentifiers(@PathVariable("id") UUID id, @PathVariable("type") SampleEnum type,
+				@RequestParam("number") int number);
+	}
+
+	enum SampleEnum {
+
+		VALUE {
+
+			@Override
+			public String toString() {
+				return "value";
+			}
+		};
 	}
 
 	static class SampleUriComponentsContributor implements UriComponentsContributor {
@@ -201,6 +290,18 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 		}
 	}
 
+	static class CountingUriComponentsContributor extends SampleUriComponentsContributor {
+
+		int checks;
+
+		@Override
+		public boolean supportsParameter(MethodParameter parameter) {
+
+			checks++;
+			return super.supportsParameter(parameter);
+		}
+	}
+
 	static class SpecialType {
 		String parameterValue;
 	}
@@ -582,6 +582,75 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).endsWith("/ctx/people");
 	}
 
+	@Test
+	public void reusesBaseUriForLinksBuiltWithinTheSameRequest() {
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).startsWith("http://localhost/");
+
+		request.setServerName("somethingDifferent");
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).startsWith("http://localhost/");
+	}
+
+	@Test
+	public void createsLinksToSingleResourcesInBulk() {
+
+		List<Object> ids = Arrays.asList(1L, "foo bar", "a/b", Optional.of(2L), "query?param", "");
+
+		List<Link> links = linkToSingleResources(PersonControllerImpl.class, ids);
+
+		assertThat(links).extracting(Link::getHref).containsExactly("http://localhost/people/1",
+				"http://localhost/people/foo%20bar", "http://localhost/people/a/b", "http://localhost/people/2",
+				linkTo(PersonControllerImpl.class).slash("query?param").withSelfRel().getHref(), "http://localhost/people");
+		assertThat(links).extracting(Link::getRel).containsOnly(Link.REL_SELF);
+	}
+
+	@Test
+	public void createsSameLinksInBulkAsForSingleResources() {
+
+		List<Object> ids = Arrays.asList(1L, "a//b", " padded ", "/leading", "trailing/", "a/ b", "/", " ", 47.11,
+				Optional.empty());
+
+		List<Link> links = linkTo(PersonControllerImpl.class).slashAll(ids, Link.REL_SELF);
+
+		for (int i = 0; i < ids.size(); i++) {
+			assertThat(links.get(i)).isEqualTo(linkTo(PersonControllerImpl.class).slash(ids.get(i)).withSelfRel());
+		}
+	}
+
+	@Test
+	public void createsSameLinkForSingleResourceAsSlash() {
+
+		List<Object> ids = Arrays.asList(1L, "foo bar", "a//b", "query?param", "/", Optional.empty());
+
+		for (Object id : ids) {
+			assertThat(linkTo(PersonControllerImpl.class).slashWithRel(id, Link.REL_SELF))
+					.isEqualTo(linkTo(PersonControllerImpl.class).slash(id).withSelfRel());
+		}
+	}
+
+	@Test
+	public void reusesControllerLinksBuiltWithinTheSameRequest() {
+
+		ControllerLinkBuilder first = linkTo(PersonControllerImpl.class);
+		ControllerLinkBuilder second = linkTo(PersonControllerImpl.class);
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.slash("foo").withSelfRel().getHref()).isEqualTo("http://localhost/people/foo");
+		assertThat(second.withSelfRel().getHref()).isEqualTo("http://localhost/people");
+	}
+
+	@Test
+	public void recalculatesBaseUriForWrappedRequest() {
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).startsWith("http://localhost/");
+
+		request.addHeader("X-Forwarded-Host", "somethingDifferent");
+		adaptRequestFromForwardedHeaders();
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).startsWith("http://somethingDifferent/");
+	}
+
 	/**
 	 * @see #639
 	 */
@@ -616,6 +685,43 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref()).isEqualTo("http://localhost/something/bar/foo");
 	}
 
+	@Test
+	public void createsLinkFromMethodReference() {
+
+		Link link = linkTo(ControllerWithMethods::methodWithPathVariable, "1").withSelfRel();
+
+		assertThat(link.getHref()).isEqualTo("http://localhost/something/1/foo");
+	}
+
+	@Test
+	public void createsLinkFromMethodReferenceWithRequestParameters() {
+
+		Link link = linkTo(ControllerWithMethods::methodForNextPage, "1", 10, 5).withSelfRel();
+
+		assertThat(link.getHref()).endsWith("/something/1/foo?offset=10&limit=5");
+	}
+
+	@Test
+	public void createsLinkFromMethodReferenceToMethodWithFinalReturnType() {
+
+		Link link = linkTo(ControllerWithFinalReturnType::show, 42L).withSelfRel();
+
+		assertThat(link.getHref()).isEqualTo("http://localhost/final/42");
+	}
+
+	@Test
+	public void usesTypeMappingOfMethodReferenceTarget() {
+
+		Link link = linkTo(ChildControllerWithRootMapping::someEmptyMappedMethod).withSelfRel();
+
+		assertThat(link.getHref()).isEqualTo("http://localhost/root");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsLambdaExpressionInsteadOfMethodReference() {
+		linkTo((ControllerWithMethods controller) -> controller.methodWithPathVariable("1"));
+	}
+
 	private static UriComponents toComponents(Link link) {
 		return UriComponentsBuilder.fromUriString(link.expand().getHref()).build();
 	}
@@ -704,6 +810,14 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		}
 	}
 
+	static class ControllerWithFinalReturnType {
+
+		@RequestMapping("/final/{id}")
+		String show(@PathVariable Long id) {
+			return null;
+		}
+	}
+
 	@RequestMapping("/parent")
 	interface ParentController {}
 
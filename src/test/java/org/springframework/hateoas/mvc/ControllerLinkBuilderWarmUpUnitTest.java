@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.hateoas.core.CachingMappingDiscoverer;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Unit tests for {@link ControllerLinkBuilderWarmUp}.
+ */
+public class ControllerLinkBuilderWarmUpUnitTest {
+
+	ControllerLinkBuilderWarmUp warmUp = new ControllerLinkBuilderWarmUp();
+
+	@Test
+	public void populatesMappingCachesForHandlerMethods() throws Exception {
+
+		Method method = SampleController.class.getMethod("sample", Long.class);
+		CachingMappingDiscoverer discoverer = ControllerLinkBuilder.getMappingDiscoverer();
+
+		Duration duration = warmUp.warmUp(Collections.singleton(new HandlerMethod(new SampleController(), method)));
+
+		assertThat(duration.isNegative()).isFalse();
+
+		long hits = discoverer.getStatistics().get(1).getHits();
+
+		assertThat(discoverer.getMapping(SampleController.class, method)).isEqualTo("/warm-up/{id}");
+		assertThat(discoverer.getStatistics().get(1).getHits()).isEqualTo(hits + 1);
+	}
+
+	@Test
+	public void populatesPlanCachesOfControllerLinkBuilderFactories() throws Exception {
+
+		Method method = SampleController.class.getMethod("sample", Long.class);
+		ControllerLinkBuilderFactory factory = spy(new ControllerLinkBuilderFactory());
+
+		warmUp.warmUp(Collections.singleton(new HandlerMethod(new SampleController(), method)),
+				Collections.singleton(factory));
+
+		verify(factory).getPlan(SampleController.class, method);
+	}
+
+	@Test
+	public void doesNotWarmUpIfNotEnabled() {
+
+		ApplicationContext context = mock(ApplicationContext.class);
+		doReturn(new StandardEnvironment()).when(context).getEnvironment();
+
+		warmUp.onApplicationEvent(new ContextRefreshedEvent(context));
+
+		verify(context, never()).getBeansOfType(RequestMappingHandlerMapping.class);
+	}
+
+	@RequestMapping("/warm-up")
+	static class SampleController {
+
+		@GetMapping("/{id}")
+		public HttpEntity<?> sample(@PathVariable Long id) {
+			return null;
+		}
+	}
+}
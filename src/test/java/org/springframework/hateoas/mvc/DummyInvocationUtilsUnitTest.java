@@ -17,10 +17,14 @@ package org.springframework.hateoas.mvc;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.Test;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TestUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware;
+import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,6 +52,91 @@ public class DummyInvocationUtilsUnitTest extends TestUtils {
 		assertThat(link.getHref()).isEqualTo("http://localhost/sample/2/bar");
 	}
 
+	@Test
+	public void reusesProxyForReusableMethodOn() {
+
+		SampleController first = DummyInvocationUtils.reusableMethodOn(SampleController.class);
+		Link firstLink = ControllerLinkBuilder.linkTo(first.someMethod(1L)).withSelfRel();
+
+		SampleController second = DummyInvocationUtils.reusableMethodOn(SampleController.class);
+		Link secondLink = ControllerLinkBuilder.linkTo(second.someOtherMethod(2L)).withSelfRel();
+
+		assertThat(first).isSameAs(second);
+		assertThat(firstLink.getHref()).isEqualTo("http://localhost/sample/1/foo");
+		assertThat(secondLink.getHref()).isEqualTo("http://localhost/sample/2/bar");
+	}
+
+	@Test
+	public void reusableMethodOnKeepsPreviouslyRecordedInvocationsIntact() {
+
+		LastInvocationAware first = (LastInvocationAware) DummyInvocationUtils.reusableMethodOn(SampleController.class)
+				.someMethod(1L);
+		MethodInvocation invocation = first.getLastInvocation();
+
+		DummyInvocationUtils.reusableMethodOn(SampleController.class).someOtherMethod(2L);
+
+		assertThat(invocation.getMethod().getName()).isEqualTo("someMethod");
+		assertThat(invocation.getArguments()).containsExactly(1L);
+	}
+
+	@Test
+	public void preparesProxiesForProxyableTypesOnly() {
+
+		assertThat(DummyInvocationUtils.prepareProxy(SampleController.class)).isTrue();
+		assertThat(DummyInvocationUtils.prepareProxy(HttpEntity.class)).isTrue();
+		assertThat(DummyInvocationUtils.prepareProxy(Runnable.class)).isTrue();
+		assertThat(DummyInvocationUtils.prepareProxy(String.class)).isFalse();
+		assertThat(DummyInvocationUtils.prepareProxy(void.class)).isFalse();
+	}
+
+	@Test
+	public void usesDistinctProxiesForReusableMethodOnPerThread() throws Exception {
+
+		SampleController proxy = DummyInvocationUtils.reusableMethodOn(SampleController.class);
+		AtomicReference<SampleController> reference = new AtomicReference<>();
+
+		Thread thread = new Thread(() -> reference.set(DummyInvocationUtils.reusableMethodOn(SampleController.class)));
+		thread.start();
+		thread.join();
+
+		assertThat(reference.get()).isNotNull().isNotSameAs(proxy);
+	}
+
+	@Test
+	public void clearsReusableProxiesForCurrentThread() {
+
+		SampleController proxy = DummyInvocationUtils.reusableMethodOn(SampleController.class);
+
+		DummyInvocationUtils.clearReusableProxies();
+
+		assertThat(DummyInvocationUtils.reusableMethodOn(SampleController.class)).isNotSameAs(proxy);
+	}
+
+	@Test
+	public void createsLinkForInterfaceBasedController() {
+
+		Link link = ControllerLinkBuilder.linkTo(DummyInvocationUtils.methodOn(SampleInterface.class).someMethod(1L))
+				.withSelfRel();
+		assertThat(link.getHref()).isEqualTo("http://localhost/interface/1/foo");
+	}
+
+	@Test
+	public void reusesProxyClassForInterfaces() {
+
+		SampleInterface first = DummyInvocationUtils.methodOn(SampleInterface.class);
+		SampleInterface second = DummyInvocationUtils.methodOn(SampleInterface.class);
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(first.getClass()).isSameAs(second.getClass());
+	}
+
+	@RequestMapping("/interface")
+	interface SampleInterface {
+
+		@RequestMapping("/{id}/foo")
+		HttpEntity<Void> someMethod(@PathVariable("id") Long id);
+	}
+
 	@RequestMapping("/sample")
 	static class SampleController {
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
+import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Unit tests for {@link HandlerMappingMappingDiscoverer}.
+ */
+public class HandlerMappingMappingDiscovererUnitTest {
+
+	MappingDiscoverer fallback = spy(new AnnotationMappingDiscoverer(RequestMapping.class));
+	RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+	HandlerMappingMappingDiscoverer discoverer = new HandlerMappingMappingDiscoverer(handlerMapping, fallback);
+
+	Method registered, unregistered;
+
+	@Before
+	public void setUp() throws Exception {
+
+		this.registered = SampleController.class.getMethod("registered");
+		this.unregistered = SampleController.class.getMethod("unregistered");
+
+		handlerMapping.registerMapping(RequestMappingInfo.paths("/people/{id}").methods(RequestMethod.PUT).build(),
+				new SampleController(), registered);
+	}
+
+	@Test
+	public void looksUpMappingAndRequestMethodsFromHandlerMapping() {
+
+		assertThat(discoverer.getMapping(SampleController.class, registered)).isEqualTo("/people/{id}");
+		assertThat(discoverer.getMapping(registered)).isEqualTo("/people/{id}");
+		assertThat(discoverer.getRequestMethod(SampleController.class, registered)).containsExactly(HttpMethod.PUT);
+
+		verifyZeroInteractions(fallback);
+	}
+
+	@Test
+	public void fallsBackForMethodsNotRegistered() {
+
+		assertThat(discoverer.getMapping(SampleController.class, unregistered)).isEqualTo("/sample/unregistered");
+		assertThat(discoverer.getMapping(SampleController.class)).isEqualTo("/sample");
+
+		verify(fallback).getMapping(SampleController.class, unregistered);
+	}
+
+	@Test
+	public void fallsBackIfNoHandlerMappingIsAvailable() {
+
+		HandlerMappingMappingDiscoverer discoverer = new HandlerMappingMappingDiscoverer(() -> null, fallback);
+
+		assertThat(discoverer.getMapping(SampleController.class, registered)).isEqualTo("/sample/registered");
+	}
+
+	@Test
+	public void looksUpMappingsFromAllHandlerMappings() {
+
+		RequestMappingHandlerMapping other = new RequestMappingHandlerMapping();
+		other.registerMapping(RequestMappingInfo.paths("/other").methods(RequestMethod.GET).build(),
+				new SampleController(), unregistered);
+
+		HandlerMappingMappingDiscoverer discoverer = new HandlerMappingMappingDiscoverer(
+				() -> Arrays.asList(handlerMapping, other), fallback);
+
+		assertThat(discoverer.getMapping(SampleController.class, registered)).isEqualTo("/people/{id}");
+		assertThat(discoverer.getMapping(SampleController.class, unregistered)).isEqualTo("/other");
+
+		verifyZeroInteractions(fallback);
+	}
+
+	@Test
+	public void picksUpHandlerMethodsRegisteredBeforeContextRefresh() {
+
+		assertThat(discoverer.getMapping(SampleController.class, unregistered)).isEqualTo("/sample/unregistered");
+
+		handlerMapping.registerMapping(RequestMappingInfo.paths("/late").build(), new SampleController(), unregistered);
+
+		assertThat(discoverer.getMapping(SampleController.class, unregistered)).isEqualTo("/sample/unregistered");
+
+		discoverer.onApplicationEvent(new ContextRefreshedEvent(new StaticApplicationContext()));
+
+		assertThat(discoverer.getMapping(SampleController.class, unregistered)).isEqualTo("/late");
+	}
+
+	@RequestMapping("/sample")
+	static class SampleController {
+
+		@RequestMapping("/registered")
+		public void registered() {}
+
+		@RequestMapping("/unregistered")
+		public void unregistered() {}
+	}
+}
@@ -133,6 +133,22 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 		assertThat(result).contains(firstResource, secondResource);
 	}
 
+	@Test
+	public void createsSameSelfLinksInBulkAsForSingleEntities() {
+
+		Person first = new Person();
+		first.id = 1L;
+		Person second = new Person();
+		second.id = 2L;
+
+		BulkPersonResourceAssembler assembler = new BulkPersonResourceAssembler();
+		Resources<PersonResource> result = assembler.toResources(Arrays.asList(first, second));
+
+		assertThat(result.getContent()).extracting(it -> it.getRequiredLink(Link.REL_SELF)).containsExactly(
+				assembler.toResource(first).getRequiredLink(Link.REL_SELF),
+				linkTo(ParameterizedController.class, first.getId(), "bar").slash(second.getId()).withSelfRel());
+	}
+
 	@RequestMapping("/people")
 	static class PersonController {
 
@@ -173,4 +189,21 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 			return createResource(entity);
 		}
 	}
+
+	class BulkPersonResourceAssembler extends IdentifiableResourceAssemblerSupport<Person, PersonResource> {
+
+		BulkPersonResourceAssembler() {
+			super(ParameterizedController.class, PersonResource.class);
+		}
+
+		@Override
+		public PersonResource toResource(Person entity) {
+			return createResource(entity, entity, "bar");
+		}
+
+		@Override
+		public Resources<PersonResource> toResources(Iterable<? extends Person> entities) {
+			return new Resources<>(createResources(entities, entities.iterator().next(), "bar"));
+		}
+	}
 }
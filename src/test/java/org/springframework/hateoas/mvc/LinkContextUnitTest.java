@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonControllerImpl;
+import org.springframework.hateoas.mvc.ControllerLinkBuilderUnitTest.PersonsAddressesController;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Unit tests for {@link LinkContext}.
+ */
+public class LinkContextUnitTest extends TestUtils {
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void capturesBaseUriFromCurrentRequest() {
+
+		request.addHeader("X-Forwarded-Host", "somethingDifferent");
+		adaptRequestFromForwardedHeaders();
+
+		LinkContext context = LinkContext.current();
+
+		assertThat(context.getBaseUri().toUriString()).startsWith("http://somethingDifferent");
+		assertThat(context.getLocale()).isEqualTo(LocaleContextHolder.getLocale());
+	}
+
+	@Test
+	public void buildsLinksRelativeToExplicitBaseUri() {
+
+		LinkContext context = LinkContext.of("https://api.example.com");
+
+		assertThat(context.linkTo(PersonControllerImpl.class).withSelfRel().getHref())
+				.isEqualTo("https://api.example.com/people");
+		assertThat(context.linkTo(methodOn(PersonsAddressesController.class, 15).getAddressesForCountry("DE"))
+				.withSelfRel().getHref()).isEqualTo("https://api.example.com/people/15/addresses/DE");
+	}
+
+	@Test
+	public void propagatesCapturedContextToOtherThreads() throws Exception {
+
+		LinkContext context = LinkContext.current().withLocale(Locale.GERMAN);
+
+		CompletableFuture<String> future = CompletableFuture.supplyAsync(context.wrap(() -> {
+
+			assertThat(LocaleContextHolder.getLocale()).isEqualTo(Locale.GERMAN);
+
+			return linkTo(PersonControllerImpl.class).withSelfRel().getHref();
+		}));
+
+		assertThat(future.get()).isEqualTo("http://localhost/people");
+	}
+
+	@Test
+	public void restoresPreviousStateAfterInvocation() {
+
+		RequestContextHolder.resetRequestAttributes();
+		Locale locale = LocaleContextHolder.getLocale();
+
+		String href = LinkContext.of("https://api.example.com").withLocale(Locale.GERMAN)
+				.call(() -> linkTo(PersonControllerImpl.class).withSelfRel().getHref());
+
+		assertThat(href).isEqualTo("https://api.example.com/people");
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).isEqualTo("/people");
+		assertThat(LocaleContextHolder.getLocale()).isEqualTo(locale);
+	}
+}
@@ -16,8 +16,13 @@
 package org.springframework.hateoas.mvc;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.springframework.core.annotation.Order;
@@ -25,10 +30,13 @@ import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.AffordanceModel;
 import org.springframework.hateoas.core.AffordanceModelFactory;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
+import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * @author Greg Turnquist
@@ -53,6 +61,116 @@ public class SpringMvcAffordanceBuilderUnitTest {
 		assertThat(registry.getPluginFor(MediaType.APPLICATION_JSON).get()).isEqualTo(high);
 	}
 
+	@Test
+	public void createsAffordanceModelsOnlyForRequestedMediaType() throws Exception {
+
+		Method method = Object.class.getMethod("toString");
+
+		MethodInvocation invocation = mock(MethodInvocation.class);
+		doReturn(method).when(invocation).getMethod();
+		doReturn(Object.class).when(invocation).getTargetType();
+
+		MappingDiscoverer discoverer = mock(MappingDiscoverer.class);
+		doReturn(Collections.singleton(HttpMethod.GET)).when(discoverer).getRequestMethod(Object.class, method);
+
+		CountingModelFactory factory = new CountingModelFactory();
+		SpringMvcAffordanceBuilder builder = new SpringMvcAffordanceBuilder(
+				OrderAwarePluginRegistry.create(Collections.singletonList(factory)));
+
+		Collection<Affordance> affordances = builder.create(invocation, discoverer,
+				UriComponentsBuilder.fromUriString("/foo").build());
+
+		assertThat(affordances).hasSize(1);
+		assertThat(factory.invocations.get()).isEqualTo(0);
+
+		Affordance affordance = affordances.iterator().next();
+
+		assertThat(affordance.<AffordanceModel> getAffordanceModel(MediaType.APPLICATION_XML)).isNull();
+		assertThat(factory.invocations.get()).isEqualTo(0);
+
+		AffordanceModel model = affordance.getAffordanceModel(MediaType.APPLICATION_JSON);
+
+		assertThat(model).isNotNull();
+		assertThat(affordance.<AffordanceModel> getAffordanceModel(MediaType.APPLICATION_JSON)).isSameAs(model);
+		assertThat(factory.invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void sharesMethodDetailsBetweenAffordancesForTheSameMethod() throws Exception {
+
+		Method method = Object.class.getMethod("toString");
+
+		MethodInvocation invocation = mock(MethodInvocation.class);
+		doReturn(method).when(invocation).getMethod();
+		doReturn(Object.class).when(invocation).getTargetType();
+
+		MappingDiscoverer discoverer = mock(MappingDiscoverer.class);
+		doReturn(Collections.singleton(HttpMethod.GET)).when(discoverer).getRequestMethod(Object.class, method);
+
+		SpringMvcAffordanceBuilder builder = new SpringMvcAffordanceBuilder(
+				OrderAwarePluginRegistry.create(Collections.singletonList(new CountingModelFactory())));
+
+		Affordance first = builder.create(invocation, discoverer, UriComponentsBuilder.fromUriString("/foo").build())
+				.iterator().next();
+		Affordance second = builder.create(invocation, discoverer, UriComponentsBuilder.fromUriString("/bar").build())
+				.iterator().next();
+
+		assertThat(first.getInputMethodParameters()).isSameAs(second.getInputMethodParameters());
+		assertThat(first.getQueryMethodParameters()).isSameAs(second.getQueryMethodParameters());
+	}
+
+	@Test
+	public void considersUriAndHttpMethodForEquality() throws Exception {
+
+		Method method = Object.class.getMethod("toString");
+
+		MethodInvocation invocation = mock(MethodInvocation.class);
+		doReturn(method).when(invocation).getMethod();
+		doReturn(Object.class).when(invocation).getTargetType();
+
+		MappingDiscoverer discoverer = mock(MappingDiscoverer.class);
+		doReturn(Collections.singleton(HttpMethod.GET)).when(discoverer).getRequestMethod(Object.class, method);
+
+		SpringMvcAffordanceBuilder builder = new SpringMvcAffordanceBuilder(
+				OrderAwarePluginRegistry.create(Collections.singletonList(new CountingModelFactory())));
+
+		Affordance foo = builder.create(invocation, discoverer, UriComponentsBuilder.fromUriString("/foo").build())
+				.iterator().next();
+		Affordance sameFoo = builder.create(invocation, discoverer, UriComponentsBuilder.fromUriString("/foo").build())
+				.iterator().next();
+		Affordance bar = builder.create(invocation, discoverer, UriComponentsBuilder.fromUriString("/bar").build())
+				.iterator().next();
+
+		doReturn(Collections.singleton(HttpMethod.POST)).when(discoverer).getRequestMethod(Object.class, method);
+
+		Affordance postFoo = builder.create(invocation, discoverer, UriComponentsBuilder.fromUriString("/foo").build())
+				.iterator().next();
+
+		assertThat(foo).isEqualTo(sameFoo);
+		assertThat(foo.hashCode()).isEqualTo(sameFoo.hashCode());
+		assertThat(foo).isNotEqualTo(bar);
+		assertThat(foo).isNotEqualTo(postFoo);
+	}
+
+	static class CountingModelFactory implements AffordanceModelFactory {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public MediaType getMediaType() {
+			return MediaType.APPLICATION_JSON;
+		}
+
+		@Override
+		public AffordanceModel getAffordanceModel(Affordance affordance, MethodInvocation invocationValue,
+				UriComponents components) {
+
+			invocations.incrementAndGet();
+
+			return () -> Collections.singleton(MediaType.APPLICATION_JSON);
+		}
+	}
+
 	@Order(20)
 	static class LowPriorityModelFactory implements AffordanceModelFactory {
 
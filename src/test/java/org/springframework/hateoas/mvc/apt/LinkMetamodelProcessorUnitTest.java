@@ -0,0 +1,197 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc.apt;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.tools.JavaCompiler;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.hateoas.mvc.ControllerLinkBuilder;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Unit tests for {@link LinkMetamodelProcessor}.
+ */
+public class LinkMetamodelProcessorUnitTest {
+
+	public @Rule TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void generatesLinkFactoryForController() throws Exception {
+
+		ClassLoader classLoader = compile("com.acme.CustomerController", "package com.acme;\n" //
+				+ "import org.springframework.web.bind.annotation.*;\n" //
+				+ "@RequestMapping(\"/tenants/{tenant}/customers\")\n" //
+				+ "public class CustomerController {\n" //
+				+ "  @GetMapping(\"/{id:\\\\d+}\") public Object show(@PathVariable Long id) { return null; }\n" //
+				+ "  @GetMapping public Object list(@RequestParam(required = false) Integer page) { return null; }\n" //
+				+ "  @GetMapping(\"/search\") public Object search(@RequestParam String name) { return null; }\n" //
+				+ "}\n");
+
+		Class<?> controller = classLoader.loadClass("com.acme.CustomerController");
+		Class<?> links = classLoader.loadClass("com.acme.CustomerControllerLinks");
+
+		assertSameHref(links, controller, "show", new Class<?>[] { Long.class }, 42L);
+		assertSameHref(links, controller, "list", new Class<?>[] { Integer.class }, 2);
+		assertSameHref(links, controller, "search", new Class<?>[] { String.class }, "foo bar");
+		assertSameHref(links, controller, "search", new Class<?>[] { String.class }, (Object) null);
+
+		// Omitted optional parameters are rendered as template variables
+		assertThat(assertSameHref(links, controller, "list", new Class<?>[] { Integer.class }, (Object) null))
+				.endsWith("/tenants/acme/customers{?page}");
+	}
+
+	@Test
+	public void skipsMethodsWithParametersRequiringConversion() throws Exception {
+
+		String source = generate("com.acme.SampleController", "package com.acme;\n" //
+				+ "import org.springframework.web.bind.annotation.*;\n" //
+				+ "class SampleController {\n" //
+				+ "  @GetMapping(\"/{date}\") Object byDate(@PathVariable java.util.Date date) { return null; }\n" //
+				+ "  @GetMapping(\"/sample\") Object sample() { return null; }\n" //
+				+ "}\n", "com/acme/SampleControllerLinks.java");
+
+		assertThat(source) //
+				.contains("public static ControllerLinkBuilder sample()") //
+				.doesNotContain("byDate");
+	}
+
+	@Test
+	public void joinsMappingsLikeAnnotationMappingDiscoverer() {
+
+		assertThat(LinkMetamodelProcessor.join("/type", "/method")).isEqualTo("/type/method");
+		assertThat(LinkMetamodelProcessor.join("/type/", "/method")).isEqualTo("/type/method");
+		assertThat(LinkMetamodelProcessor.join("/", "method")).isEqualTo("/method");
+		assertThat(LinkMetamodelProcessor.join("/type", null)).isEqualTo("/type");
+		assertThat(LinkMetamodelProcessor.join(null, null)).isEqualTo("/");
+	}
+
+	/**
+	 * Asserts the generated link factory method creates the same href as {@link ControllerLinkBuilder#linkTo(Object)}
+	 * for an invocation of the given handler method with the given arguments.
+	 *
+	 * @return the href created.
+	 */
+	private static String assertSameHref(Class<?> links, Class<?> controller, String name, Class<?>[] parameterTypes,
+			Object... arguments) throws Exception {
+
+		Object[] factoryArguments = new Object[arguments.length + 1];
+		factoryArguments[0] = "acme";
+		System.arraycopy(arguments, 0, factoryArguments, 1, arguments.length);
+
+		Class<?>[] factoryParameterTypes = new Class<?>[parameterTypes.length + 1];
+		factoryParameterTypes[0] = Object.class;
+		System.arraycopy(parameterTypes, 0, factoryParameterTypes, 1, parameterTypes.length);
+
+		ControllerLinkBuilder generated = (ControllerLinkBuilder) links.getMethod(name, factoryParameterTypes) //
+				.invoke(null, factoryArguments);
+
+		Object invocationValue = controller.getMethod(name, parameterTypes) //
+				.invoke(methodOn(controller, "acme"), arguments);
+
+		String href = generated.withSelfRel().getHref();
+
+		assertThat(href).isEqualTo(linkTo(invocationValue).withSelfRel().getHref());
+
+		return href;
+	}
+
+	private ClassLoader compile(String typeName, String source) throws Exception {
+
+		File output = process(typeName, source, Collections.emptyList());
+
+		return new URLClassLoader(new URL[] { output.toURI().toURL() }, getClass().getClassLoader());
+	}
+
+	private String generate(String typeName, String source, String generatedFile) throws Exception {
+
+		File output = process(typeName, source, Collections.singletonList("-proc:only"));
+
+		return new String(Files.readAllBytes(new File(output, generatedFile).toPath()), StandardCharsets.UTF_8);
+	}
+
+	private File process(String typeName, String source, List<String> options) throws Exception {
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		File output = folder.newFolder();
+
+		try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+
+			List<File> classpath = new ArrayList<>();
+
+			for (Class<?> type : Arrays.asList(RequestMapping.class, AliasFor.class, LinkMetamodelProcessor.class,
+					ApplicationContext.class, BeanFactory.class, HttpServletRequest.class)) {
+				classpath.add(getLocation(type));
+			}
+
+			manager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singleton(output));
+			manager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(output));
+			manager.setLocation(StandardLocation.CLASS_PATH, classpath);
+
+			JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, options, null,
+					Collections.singleton(new StringSource(typeName, source)));
+			task.setProcessors(Collections.singleton(new LinkMetamodelProcessor()));
+
+			assertThat(task.call()).isTrue();
+		}
+
+		return output;
+	}
+
+	private static File getLocation(Class<?> type) throws Exception {
+		return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+	}
+
+	private static class StringSource extends SimpleJavaFileObject {
+
+		private final String source;
+
+		StringSource(String typeName, String source) {
+
+			super(URI.create("string:///" + typeName.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+			this.source = source;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return source;
+		}
+	}
+}
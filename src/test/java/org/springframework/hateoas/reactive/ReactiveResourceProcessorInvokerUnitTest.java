@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+
+/**
+ * Unit tests for {@link ReactiveResourceProcessorInvoker}.
+ */
+public class ReactiveResourceProcessorInvokerUnitTest {
+
+	static final ResolvableType STRING_RESOURCE = ResolvableType.forClassWithGenerics(Resource.class, String.class);
+
+	ReactiveResourceProcessorInvoker invoker = new ReactiveResourceProcessorInvoker(
+			new ResourceProcessorInvoker(Collections.singletonList(new SynchronousProcessor())),
+			Collections.singletonList(new AsynchronousProcessor()));
+
+	@Test
+	public void appliesSynchronousAndAsynchronousProcessorsToMono() {
+
+		Resource<String> resource = invoker.invokeProcessorsFor(Mono.just(new Resource<>("foo")), STRING_RESOURCE)
+				.block();
+
+		assertThat(resource.getLinks()).extracting(Link::getRel).containsExactly("sync", "async");
+	}
+
+	@Test
+	public void appliesProcessorsToFluxElementsInOrder() {
+
+		List<Resource<String>> resources = invoker
+				.invokeProcessorsFor(Flux.just(new Resource<>("foo"), new Resource<>("bar")), STRING_RESOURCE) //
+				.collectList() //
+				.block();
+
+		assertThat(resources).extracting(Resource::getContent).containsExactly("foo", "bar");
+		assertThat(resources).allSatisfy(it -> assertThat(it.hasLink("async")).isTrue());
+	}
+
+	@Test
+	public void appliesProcessorsToElementsOfResources() {
+
+		Resources<Resource<String>> source = new Resources<>(Arrays.asList(new Resource<>("foo")));
+		ResolvableType type = ResolvableType.forClassWithGenerics(Resources.class, STRING_RESOURCE);
+
+		Resources<Resource<String>> result = invoker.invokeProcessorsFor(Mono.just(source), type).block();
+
+		assertThat(result.getContent().iterator().next().getLinks()) //
+				.extracting(Link::getRel) //
+				.containsExactly("sync", "async");
+	}
+
+	@Test
+	public void recreatesPagedResourcesIfProcessorsReplaceElements() {
+
+		ReactiveResourceProcessorInvoker invoker = new ReactiveResourceProcessorInvoker(
+				new ResourceProcessorInvoker(Collections.emptyList()),
+				Collections.singletonList(new ReplacingProcessor()));
+
+		PageMetadata metadata = new PageMetadata(1, 0, 1);
+		PagedResources<Resource<String>> source = new PagedResources<>(Arrays.asList(new Resource<>("foo")), metadata,
+				new Link("/self"));
+		ResolvableType type = ResolvableType.forClassWithGenerics(PagedResources.class, STRING_RESOURCE);
+
+		PagedResources<Resource<String>> result = invoker.invokeProcessorsFor(Mono.just(source), type).block();
+
+		assertThat(result).isNotSameAs(source);
+		assertThat(result.getContent()).extracting(Resource::getContent).containsExactly("FOO");
+		assertThat(result.getMetadata()).isEqualTo(metadata);
+		assertThat(result.getLinks()).isEqualTo(source.getLinks());
+		assertThat(source.getContent()).extracting(Resource::getContent).containsExactly("foo");
+	}
+
+	@Test
+	public void keepsResourcesIfProcessorsReturnTheGivenElements() {
+
+		Resources<Resource<String>> source = new Resources<>(Arrays.asList(new Resource<>("foo")));
+		ResolvableType type = ResolvableType.forClassWithGenerics(Resources.class, STRING_RESOURCE);
+
+		assertThat(invoker.invokeProcessorsFor(Mono.just(source), type).block()).isSameAs(source);
+	}
+
+	@Test
+	public void doesNotApplyProcessorsToResourcesOfOtherContentTypes() {
+
+		ResolvableType type = ResolvableType.forClassWithGenerics(Resource.class, Long.class);
+
+		Resource<Long> resource = invoker.invokeProcessorsFor(Mono.just(new Resource<>(4711L)), type).block();
+
+		assertThat(resource.getLinks()).isEmpty();
+	}
+
+	static class SynchronousProcessor implements ResourceProcessor<Resource<String>> {
+
+		@Override
+		public Resource<String> process(Resource<String> resource) {
+
+			resource.add(new Link("/sync", "sync"));
+			return resource;
+		}
+	}
+
+	static class ReplacingProcessor implements ReactiveResourceProcessor<Resource<String>> {
+
+		@Override
+		public Mono<Resource<String>> process(Resource<String> resource) {
+			return Mono.just(new Resource<>(resource.getContent().toUpperCase(), resource.getLinks()));
+		}
+	}
+
+	static class AsynchronousProcessor implements ReactiveResourceProcessor<Resource<String>> {
+
+		@Override
+		public Mono<Resource<String>> process(Resource<String> resource) {
+
+			return Mono.fromCallable(() -> {
+
+				resource.add(new Link("/async", "async"));
+				return resource;
+			});
+		}
+	}
+}
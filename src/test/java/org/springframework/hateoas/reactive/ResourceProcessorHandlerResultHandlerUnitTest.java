@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessorInvokerUnitTest.AsynchronousProcessor;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessorInvokerUnitTest.SynchronousProcessor;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Unit tests for {@link ResourceProcessorHandlerResultHandler}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceProcessorHandlerResultHandlerUnitTest {
+
+	@Mock HandlerResultHandler delegate;
+	@Mock ServerWebExchange exchange;
+
+	ResourceProcessorHandlerResultHandler handler;
+
+	@Before
+	public void setUp() {
+
+		ReactiveResourceProcessorInvoker invoker = new ReactiveResourceProcessorInvoker(
+				new ResourceProcessorInvoker(Collections.singletonList(new SynchronousProcessor())),
+				Collections.singletonList(new AsynchronousProcessor()));
+
+		this.handler = new ResourceProcessorHandlerResultHandler(delegate, invoker);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void forwardsProcessedMonoToDelegate() throws Exception {
+
+		HandlerResult result = handle("mono", Mono.just(new Resource<>("foo")));
+
+		Resource<String> resource = ((Mono<Resource<String>>) result.getReturnValue()).block();
+
+		assertThat(resource.getLinks()).extracting(Link::getRel).containsExactly("sync", "async");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void forwardsProcessedFluxToDelegate() throws Exception {
+
+		HandlerResult result = handle("flux", Flux.just(new Resource<>("foo"), new Resource<>("bar")));
+
+		assertThat(((Flux<Resource<String>>) result.getReturnValue()).collectList().block()) //
+				.extracting(Resource::getContent) //
+				.containsExactly("foo", "bar");
+	}
+
+	@Test
+	public void forwardsNonResourceReturnValuesUnchanged() throws Exception {
+
+		Mono<String> value = Mono.just("foo");
+		HandlerResult source = new HandlerResult(this, value, getReturnType("string"), new BindingContext());
+
+		when(delegate.handleResult(any(), any())).thenReturn(Mono.empty());
+		handler.handleResult(exchange, source).block();
+
+		verify(delegate).handleResult(exchange, source);
+	}
+
+	@Test
+	public void supportsWhateverTheDelegateSupports() throws Exception {
+
+		HandlerResult result = new HandlerResult(this, Mono.just("foo"), getReturnType("string"), new BindingContext());
+
+		when(delegate.supports(result)).thenReturn(true);
+
+		assertThat(handler.supports(result)).isTrue();
+	}
+
+	@Test
+	public void doesNotSupportAnyResultWithoutDelegate() throws Exception {
+
+		ResourceProcessorHandlerResultHandler handler = new ResourceProcessorHandlerResultHandler(() -> null,
+				new ReactiveResourceProcessorInvoker(new ResourceProcessorInvoker(Collections.emptyList()),
+						Collections.emptyList()));
+
+		HandlerResult result = new HandlerResult(this, Mono.just("foo"), getReturnType("string"), new BindingContext());
+
+		assertThat(handler.supports(result)).isFalse();
+	}
+
+	@Test
+	public void ordersRightBeforeTheDelegate() {
+
+		HandlerResultHandler ordered = mock(HandlerResultHandler.class, withSettings().extraInterfaces(Ordered.class));
+		when(((Ordered) ordered).getOrder()).thenReturn(100);
+
+		ReactiveResourceProcessorInvoker invoker = new ReactiveResourceProcessorInvoker(
+				new ResourceProcessorInvoker(Collections.emptyList()), Collections.emptyList());
+
+		assertThat(new ResourceProcessorHandlerResultHandler(ordered, invoker).getOrder()).isEqualTo(99);
+	}
+
+	private HandlerResult handle(String methodName, Object value) throws Exception {
+
+		when(delegate.handleResult(any(), any())).thenReturn(Mono.empty());
+
+		handler.handleResult(exchange, new HandlerResult(this, value, getReturnType(methodName), new BindingContext()))
+				.block();
+
+		ArgumentCaptor<HandlerResult> captor = ArgumentCaptor.forClass(HandlerResult.class);
+		verify(delegate).handleResult(eq(exchange), captor.capture());
+
+		return captor.getValue();
+	}
+
+	private static MethodParameter getReturnType(String methodName) throws Exception {
+		return new MethodParameter(Controller.class.getMethod(methodName), -1);
+	}
+
+	interface Controller {
+
+		Mono<Resource<String>> mono();
+
+		Flux<Resource<String>> flux();
+
+		Mono<String> string();
+	}
+}
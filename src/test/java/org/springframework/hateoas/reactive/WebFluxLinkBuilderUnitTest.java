@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.hateoas.reactive.WebFluxLinkBuilder.*;
+
+import reactor.core.publisher.Mono;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Unit tests for {@link WebFluxLinkBuilder}.
+ */
+public class WebFluxLinkBuilderUnitTest {
+
+	ServerWebExchange exchange = MockServerWebExchange
+			.from(MockServerHttpRequest.get("http://example.com:8080/context/employees/1?foo=bar").contextPath("/context"));
+
+	@Test
+	public void createsLinkFromExchange() {
+
+		Link link = linkTo(methodOn(EmployeeController.class).findOne(4711L), exchange).withSelfRel();
+
+		assertThat(link.getHref()).isEqualTo("http://example.com:8080/context/employees/4711");
+	}
+
+	@Test
+	public void considersForwardedHeaders() {
+
+		ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost/employees") //
+				.header("X-Forwarded-Proto", "https") //
+				.header("X-Forwarded-Host", "example.com"));
+
+		Link link = linkTo(methodOn(EmployeeController.class).findOne(4711L), exchange).withSelfRel();
+
+		assertThat(link.getHref()).isEqualTo("https://example.com/employees/4711");
+	}
+
+	@Test
+	public void usesExchangeFromSubscriberContext() {
+
+		Mono<Link> link = linkTo(methodOn(EmployeeController.class).findOne(4711L)).withRel("employee") //
+				.subscriberContext(context -> context.put(EXCHANGE_CONTEXT_ATTRIBUTE, exchange));
+
+		assertThat(link.block()).isEqualTo(new Link("http://example.com:8080/context/employees/4711", "employee"));
+	}
+
+	@Test
+	public void fallsBackToRelativeLinksWithoutExchange() {
+
+		Mono<Link> link = linkTo(methodOn(EmployeeController.class).findOne(4711L)).withSelfRel();
+
+		assertThat(link.block().getHref()).isEqualTo("/employees/4711");
+	}
+
+	@Test
+	public void calculatesBaseUriOncePerExchange() {
+		assertThat(getBaseUri(exchange)).isSameAs(getBaseUri(exchange));
+	}
+
+	@RequestMapping("/employees")
+	interface EmployeeController {
+
+		@GetMapping("/{id}")
+		HttpEntity<Object> findOne(@PathVariable("id") Long id);
+	}
+}